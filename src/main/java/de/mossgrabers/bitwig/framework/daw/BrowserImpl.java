@@ -13,7 +13,7 @@ import com.bitwig.extension.controller.api.InsertionPoint;
 import com.bitwig.extension.controller.api.PopupBrowser;
 
 import de.mossgrabers.bitwig.framework.daw.data.BrowserColumnImpl;
-import de.mossgrabers.bitwig.framework.daw.data.BrowserColumnItemImpl;
+import de.mossgrabers.bitwig.framework.daw.data.BrowserResultItemImpl;
 import de.mossgrabers.bitwig.framework.daw.data.ChannelImpl;
 import de.mossgrabers.bitwig.framework.daw.data.CursorDeviceImpl;
 import de.mossgrabers.bitwig.framework.daw.data.DrumPadImpl;
@@ -26,6 +26,8 @@ import de.mossgrabers.framework.daw.data.IBrowserColumnItem;
 import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.daw.data.IItem;
 
+import java.util.Optional;
+
 
 /**
  * Provides access to the device, preset, sample, ... browser.
@@ -41,6 +43,12 @@ public class BrowserImpl extends AbstractBrowser
     private final BrowserFilterColumn []  filterColumns;
     private final CursorBrowserResultItem cursorResult;
     private final BrowserResultsItemBank  resultsItemBank;
+    private final BrowserResultsItemBank  prefetchItemBank;
+    private final BrowserResultCache      resultCache           = new BrowserResultCache ();
+    private boolean                       resultNamesReceived   = false;
+    private boolean                       prefetchNamesReceived = false;
+    private int                           resultsPosition       = -1;
+    private boolean                       isResultPageLoading   = false;
 
 
     /**
@@ -63,8 +71,12 @@ public class BrowserImpl extends AbstractBrowser
 
         this.browser = browser;
 
-        this.browser.exists ().addValueObserver (this::fireActiveObserver);
-        this.browser.selectedContentTypeIndex ().markInterested ();
+        this.browser.exists ().addValueObserver (isActive -> {
+            // Results of a previous browsing session are not valid anymore
+            this.resultCache.clear ();
+            this.fireActiveObserver (isActive);
+        });
+        this.browser.selectedContentTypeIndex ().addValueObserver (value -> this.resultCache.clear ());
         this.browser.selectedContentTypeName ().markInterested ();
         this.browser.contentTypeNames ().markInterested ();
         this.browser.shouldAudition ().markInterested ();
@@ -89,7 +101,16 @@ public class BrowserImpl extends AbstractBrowser
         this.cursorResult.name ().markInterested ();
 
         this.resultsItemBank = (BrowserResultsItemBank) this.cursorResult.createSiblingsBank (this.numResults);
+        this.resultsItemBank.scrollPosition ().addValueObserver (this::prefetchResults);
+        // The API does not provide the search text but changing it changes the number of results
+        this.resultsItemBank.itemCount ().addValueObserver (value -> this.resultCache.clear ());
         this.resultData = this.createResultData (this.numResults);
+        this.observeResultNames (this.resultsItemBank, () -> this.resultNamesReceived = true);
+
+        // A second bank covers the previous, the current and the next result page to fill the
+        // cache in advance
+        this.prefetchItemBank = (BrowserResultsItemBank) this.browser.resultsColumn ().createItemBank (3 * this.numResults);
+        this.observeResultNames (this.prefetchItemBank, () -> this.prefetchNamesReceived = true);
     }
 
 
@@ -110,6 +131,12 @@ public class BrowserImpl extends AbstractBrowser
 
         for (final IBrowserColumnItem item: this.resultData)
             item.enableObservers (enable);
+
+        Util.setIsSubscribed (this.resultsItemBank.scrollPosition (), enable);
+        Util.setIsSubscribed (this.resultsItemBank.itemCount (), enable);
+        Util.setIsSubscribed (this.prefetchItemBank.scrollPosition (), enable);
+        for (int i = 0; i < this.prefetchItemBank.getSizeOfBank (); i++)
+            Util.setIsSubscribed (this.prefetchItemBank.getItemAt (i).name (), enable);
     }
 
 
@@ -327,7 +354,11 @@ public class BrowserImpl extends AbstractBrowser
     {
         final IBrowserColumn [] columns = new IBrowserColumn [count];
         for (int i = 0; i < count; i++)
-            columns[i] = new BrowserColumnImpl (this.filterColumns[i], i, numFilterColumnEntries);
+        {
+            final BrowserColumnImpl column = new BrowserColumnImpl (this.filterColumns[i], i, numFilterColumnEntries);
+            column.addCursorNameObserver (name -> this.resultCache.clear ());
+            columns[i] = column;
+        }
         return columns;
     }
 
@@ -336,7 +367,87 @@ public class BrowserImpl extends AbstractBrowser
     {
         final IBrowserColumnItem [] items = new IBrowserColumnItem [count];
         for (int i = 0; i < count; i++)
-            items[i] = new BrowserColumnItemImpl (this.resultsItemBank.getItemAt (i), i);
+            items[i] = new BrowserResultItemImpl (this.resultsItemBank.getItemAt (i), i, this::getCachedResultName);
         return items;
     }
+
+
+    /**
+     * Store the result names, which were received with the last batch of changes from the DAW, in
+     * the cache. Must be called after each batch. The DAW does not guarantee the order in which the
+     * scroll position and the names of a bank are reported, therefore the names are stored with
+     * the scroll position of the same batch. If the scroll position of the results bank has changed
+     * but its names did not arrive yet, the page is still loading.
+     */
+    public void flush ()
+    {
+        if (this.prefetchNamesReceived)
+        {
+            this.prefetchNamesReceived = false;
+            this.storeResultNames (this.prefetchItemBank);
+        }
+
+        final int position = this.resultsItemBank.scrollPosition ().get ();
+        if (this.resultNamesReceived)
+        {
+            this.resultNamesReceived = false;
+            this.isResultPageLoading = false;
+            this.storeResultNames (this.resultsItemBank);
+        }
+        else if (position != this.resultsPosition)
+            this.isResultPageLoading = true;
+        this.resultsPosition = position;
+    }
+
+
+    /**
+     * Observe the names of the results of a bank.
+     *
+     * @param bank The bank
+     * @param namesReceived Called if a name was received
+     */
+    private void observeResultNames (final BrowserResultsItemBank bank, final Runnable namesReceived)
+    {
+        bank.scrollPosition ().markInterested ();
+        for (int i = 0; i < bank.getSizeOfBank (); i++)
+            bank.getItemAt (i).name ().addValueObserver (name -> namesReceived.run ());
+    }
+
+
+    /**
+     * Store the names of all results of a bank at its current scroll position in the cache.
+     *
+     * @param bank The bank
+     */
+    private void storeResultNames (final BrowserResultsItemBank bank)
+    {
+        final int position = bank.scrollPosition ().get ();
+        for (int i = 0; i < bank.getSizeOfBank (); i++)
+            this.resultCache.put (position + i, bank.getItemAt (i).name ().get ());
+    }
+
+
+    /**
+     * Move the prefetch bank so that it surrounds the current page of the results bank.
+     *
+     * @param scrollPosition The new scroll position of the results bank
+     */
+    private void prefetchResults (final int scrollPosition)
+    {
+        this.prefetchItemBank.scrollPosition ().set (Math.max (0, scrollPosition - this.numResults));
+    }
+
+
+    /**
+     * Get the cached name of a result on the current page as long as the page is loading.
+     *
+     * @param index The index of the result on the page
+     * @return The name if the page is loading and the name is cached
+     */
+    private Optional<String> getCachedResultName (final int index)
+    {
+        if (!this.isResultPageLoading)
+            return Optional.empty ();
+        return this.resultCache.get (this.resultsItemBank.scrollPosition ().get () + index);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2026
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.bitwig.framework.daw;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+
+/**
+ * Caches the names of the browser results which were already received from the DAW. The names are
+ * stored by their position in the result list. The cache is only valid for the current browsing
+ * session and search, therefore it needs to be cleared whenever the results might have changed.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class BrowserResultCache
+{
+    private final Map<Integer, String> results = new HashMap<> ();
+
+
+    /**
+     * Store the name of a result.
+     *
+     * @param position The position of the result in the result list
+     * @param name The name of the result, an empty name removes the result
+     */
+    public void put (final int position, final String name)
+    {
+        if (position < 0)
+            return;
+        if (name == null || name.isEmpty ())
+            this.results.remove (Integer.valueOf (position));
+        else
+            this.results.put (Integer.valueOf (position), name);
+    }
+
+
+    /**
+     * Get the name of a result.
+     *
+     * @param position The position of the result in the result list
+     * @return The name, if it was already received
+     */
+    public Optional<String> get (final int position)
+    {
+        return Optional.ofNullable (this.results.get (Integer.valueOf (position)));
+    }
+
+
+    /**
+     * Remove all cached results.
+     */
+    public void clear ()
+    {
+        this.results.clear ();
+    }
+}
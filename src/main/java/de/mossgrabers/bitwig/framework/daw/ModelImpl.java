@@ -341,6 +341,15 @@ public class ModelImpl extends AbstractModel
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void flush ()
+    {
+        if (this.browser instanceof final BrowserImpl browserImpl)
+            browserImpl.flush ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void cleanup ()
@@ -139,6 +139,17 @@ public class BrowserColumnImpl extends AbstractItemImpl implements IBrowserColum
     }
 
 
+    /**
+     * Add an observer for the name of the selected filter item.
+     *
+     * @param observer The observer to notify
+     */
+    public void addCursorNameObserver (final IValueObserver<String> observer)
+    {
+        this.cursorResult.name ().addValueObserver (observer::update);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public IBrowserColumnItem [] getItems ()
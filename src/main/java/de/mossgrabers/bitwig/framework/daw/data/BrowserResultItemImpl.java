@@ -0,0 +1,68 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2026
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.bitwig.framework.daw.data;
+
+import de.mossgrabers.framework.utils.StringUtils;
+
+import com.bitwig.extension.controller.api.BrowserItem;
+
+import java.util.Optional;
+import java.util.function.IntFunction;
+
+
+/**
+ * Encapsulates the data of a browser result entry. While the page is loading after scrolling, the
+ * name of the result at the new position is taken from the cache, if it was already received
+ * before. This allows to display the result page immediately before the DAW has sent the new data.
+ * Once the data has arrived, the live data is used.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class BrowserResultItemImpl extends BrowserColumnItemImpl
+{
+    private final IntFunction<Optional<String>> cachedNameProvider;
+
+
+    /**
+     * Constructor.
+     *
+     * @param item The item
+     * @param index The index of the item
+     * @param cachedNameProvider Provides the cached name of the result for the index of the item
+     *            while the page is loading
+     */
+    public BrowserResultItemImpl (final BrowserItem item, final int index, final IntFunction<Optional<String>> cachedNameProvider)
+    {
+        super (item, index);
+
+        this.cachedNameProvider = cachedNameProvider;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean doesExist ()
+    {
+        return this.cachedNameProvider.apply (this.getIndex ()).isPresent () || super.doesExist ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName ()
+    {
+        final Optional<String> name = this.cachedNameProvider.apply (this.getIndex ());
+        return name.isPresent () ? name.get () : super.getName ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName (final int limit)
+    {
+        final Optional<String> name = this.cachedNameProvider.apply (this.getIndex ());
+        return name.isPresent () ? StringUtils.optimizeName (name.get (), limit) : super.getName (limit);
+    }
+}
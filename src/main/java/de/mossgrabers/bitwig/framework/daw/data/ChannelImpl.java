@@ -8,7 +8,6 @@ import java.util.UUID;
 
 import com.bitwig.extension.controller.api.Channel;
 import com.bitwig.extension.controller.api.InsertionPoint;
-import com.bitwig.extension.controller.api.SettableColorValue;
 
 import de.mossgrabers.bitwig.framework.daw.DeviceMetadataImpl;
 import de.mossgrabers.bitwig.framework.daw.data.bank.AbstractChannelBankImpl;
@@ -51,6 +50,7 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     private int                                 vuPeakLeft;
     private int                                 vuPeakRight;
     private int                                 vuPeakLastVolume;
+    private ColorEx                             color          = ColorEx.BLACK;
 
 
     /**
@@ -89,6 +89,17 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
         channel.isMutedBySolo ().markInterested ();
         channel.color ().markInterested ();
 
+        // Increase the modification stamp on each change
+        channel.exists ().addValueObserver (value -> this.markChanged ());
+        channel.name ().addValueObserver (value -> this.markChanged ());
+        channel.isActivated ().addValueObserver (value -> this.markChanged ());
+        channel.isMutedBySolo ().addValueObserver (value -> this.markChanged ());
+        channel.color ().addValueObserver ( (red, green, blue) -> {
+            this.color = ColorEx.getShared (red, green, blue);
+            this.markChanged ();
+        });
+        this.enableModificationStamp ();
+
         this.volumeParameter = new ParameterImpl (valueChanger, channel.volume (), index);
         this.panParameter = new ParameterImpl (valueChanger, channel.pan (), index);
         this.muteParameter = new MuteParameterImpl (valueChanger, channel, index);
@@ -404,8 +415,7 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     @Override
     public ColorEx getColor ()
     {
-        final SettableColorValue color = this.deviceChain.color ();
-        return new ColorEx (color.red (), color.green (), color.blue ());
+        return this.color;
     }
 
 
@@ -569,7 +579,7 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     @Override
     public void addColorObserver (final IValueObserver<ColorEx> observer)
     {
-        this.deviceChain.color ().addValueObserver ( (red, green, blue) -> observer.update (new ColorEx (red, green, blue)));
+        this.deviceChain.color ().addValueObserver ( (red, green, blue) -> observer.update (ColorEx.getShared (red, green, blue)));
     }
 
 
@@ -622,4 +632,12 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
         // https://github.com/teotigraphix/Framework4Bitwig/issues/98
         this.vuRight = value >= MAX_RESOLUTION ? MAX_RESOLUTION - 1 : value;
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public long getModificationStamp ()
+    {
+        return sumModificationStamps (super.getModificationStamp (), this.volumeParameter.getModificationStamp (), this.panParameter.getModificationStamp (), this.muteParameter.getModificationStamp (), this.soloParameter.getModificationStamp (), this.sendBank.getModificationStamp ());
+    }
 }
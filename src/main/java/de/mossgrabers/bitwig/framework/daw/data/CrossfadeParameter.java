@@ -40,6 +40,12 @@ public class CrossfadeParameter extends AbstractParameterImpl
         super (valueChanger, index);
 
         this.track = track;
+
+        // Increase the modification stamp on each change
+        track.exists ().addValueObserver (value -> this.markChanged ());
+        track.position ().addValueObserver (value -> this.markChanged ());
+        track.crossFadeMode ().addValueObserver (value -> this.markChanged ());
+        this.enableModificationStamp ();
     }
 
 
@@ -45,6 +45,7 @@ public class LayerImpl extends ChannelImpl implements ILayer
         final DeviceBank deviceBank = layer.createDeviceBank (numDevices);
         this.firstItem = deviceBank.getItemAt (0);
         this.firstItem.exists ().markInterested ();
+        this.firstItem.exists ().addValueObserver (value -> this.markChanged ());
     }
 
 
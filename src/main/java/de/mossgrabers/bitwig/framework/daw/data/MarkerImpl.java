@@ -10,7 +10,6 @@ import de.mossgrabers.framework.daw.data.AbstractItemImpl;
 import de.mossgrabers.framework.daw.data.IMarker;
 import de.mossgrabers.framework.observer.IValueObserver;
 
-import com.bitwig.extension.controller.api.ColorValue;
 import com.bitwig.extension.controller.api.CueMarker;
 
 
@@ -23,6 +22,7 @@ public class MarkerImpl extends AbstractItemImpl implements IMarker
 {
     private final CueMarker  marker;
     private final ITransport transport;
+    private ColorEx          color = ColorEx.BLACK;
 
 
     /**
@@ -43,6 +43,16 @@ public class MarkerImpl extends AbstractItemImpl implements IMarker
         marker.name ().markInterested ();
         marker.getColor ().markInterested ();
         marker.position ().markInterested ();
+
+        // Increase the modification stamp on each change
+        marker.exists ().addValueObserver (value -> this.markChanged ());
+        marker.name ().addValueObserver (value -> this.markChanged ());
+        marker.position ().addValueObserver (value -> this.markChanged ());
+        marker.getColor ().addValueObserver ( (red, green, blue) -> {
+            this.color = ColorEx.getShared (red, green, blue);
+            this.markChanged ();
+        });
+        this.enableModificationStamp ();
     }
 
 
@@ -93,8 +103,7 @@ public class MarkerImpl extends AbstractItemImpl implements IMarker
     @Override
     public ColorEx getColor ()
     {
-        final ColorValue color = this.marker.getColor ();
-        return new ColorEx (color.red (), color.green (), color.blue ());
+        return this.color;
     }
 
 
@@ -36,6 +36,8 @@ public class MuteParameterImpl extends AbstractParameterImpl
         this.channel = channel;
 
         channel.mute ().markInterested ();
+        channel.mute ().addValueObserver (value -> this.markChanged ());
+        this.enableModificationStamp ();
     }
 
 
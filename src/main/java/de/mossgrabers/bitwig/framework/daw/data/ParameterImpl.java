@@ -17,8 +17,22 @@ import de.mossgrabers.framework.observer.IValueObserver;
  */
 public class ParameterImpl extends RangedValueImpl
 {
+    /**
+     * The last requested limited name.
+     *
+     * @param source The full name from which the limited name was created
+     * @param length The maximum length
+     * @param name The limited name
+     */
+    private record LimitedName (String source, int length, String name)
+    {
+        // Intentionally empty
+    }
+
+
     private final Parameter parameter;
     private final boolean   fixNames;
+    private LimitedName     limitedName;
 
 
     /**
@@ -67,6 +81,11 @@ public class ParameterImpl extends RangedValueImpl
         parameter.name ().markInterested ();
         parameter.value ().markInterested ();
         parameter.modulatedValue ().markInterested ();
+
+        // Increase the modification stamp on each change
+        parameter.exists ().addValueObserver (value -> this.markChanged ());
+        parameter.name ().addValueObserver (value -> this.markChanged ());
+        parameter.modulatedValue ().addValueObserver (value -> this.markChanged ());
     }
 
 
@@ -105,7 +124,15 @@ public class ParameterImpl extends RangedValueImpl
     @Override
     public String getName (final int limit)
     {
-        return this.targetName == null || this.fixNames ? this.parameter.name ().getLimited (limit) : this.targetName.getLimited (limit);
+        final boolean useParameterName = this.targetName == null || this.fixNames;
+        final String name = useParameterName ? this.parameter.name ().get () : this.targetName.get ();
+        final LimitedName cached = this.limitedName;
+        if (cached != null && cached.length () == limit && cached.source ().equals (name))
+            return cached.name ();
+
+        final String limited = useParameterName ? this.parameter.name ().getLimited (limit) : this.targetName.getLimited (limit);
+        this.limitedName = new LimitedName (name, limit, limited);
+        return limited;
     }
 
 
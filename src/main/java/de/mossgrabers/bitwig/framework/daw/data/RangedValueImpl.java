@@ -59,6 +59,11 @@ public class RangedValueImpl extends AbstractParameterImpl
         this.rangedValue.markInterested ();
         this.rangedValue.displayedValue ().markInterested ();
         this.rangedValue.discreteValueCount ().markInterested ();
+
+        // Increase the modification stamp on each change
+        this.rangedValue.addValueObserver (value -> this.markChanged ());
+        this.rangedValue.displayedValue ().addValueObserver (value -> this.markChanged ());
+        this.enableModificationStamp ();
     }
 
 
@@ -153,6 +158,14 @@ public class RangedValueImpl extends AbstractParameterImpl
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean isChangeSizeApplied ()
+    {
+        return true;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void resetValue ()
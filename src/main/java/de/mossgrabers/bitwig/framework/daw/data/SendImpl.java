@@ -10,7 +10,6 @@ import de.mossgrabers.framework.daw.data.ISend;
 import de.mossgrabers.framework.daw.data.bank.ISendBank;
 
 import com.bitwig.extension.controller.api.Send;
-import com.bitwig.extension.controller.api.SettableColorValue;
 
 
 /**
@@ -22,6 +21,7 @@ public class SendImpl extends ParameterImpl implements ISend
 {
     private final ISendBank sendBank;
     private final Send      send;
+    private ColorEx         color = ColorEx.BLACK;
 
 
     /**
@@ -41,7 +41,12 @@ public class SendImpl extends ParameterImpl implements ISend
         this.send = send;
 
         this.send.sendChannelColor ().markInterested ();
+        this.send.sendChannelColor ().addValueObserver ( (red, green, blue) -> {
+            this.color = ColorEx.getShared (red, green, blue);
+            this.markChanged ();
+        });
         this.send.isEnabled ().markInterested ();
+        this.send.isEnabled ().addValueObserver (value -> this.markChanged ());
     }
 
 
@@ -76,8 +81,7 @@ public class SendImpl extends ParameterImpl implements ISend
     @Override
     public ColorEx getColor ()
     {
-        final SettableColorValue color = this.send.sendChannelColor ();
-        return new ColorEx (color.red (), color.green (), color.blue ());
+        return this.color;
     }
 
 
@@ -5,7 +5,6 @@
 package de.mossgrabers.bitwig.framework.daw.data;
 
 import com.bitwig.extension.controller.api.ClipLauncherSlot;
-import com.bitwig.extension.controller.api.ColorValue;
 
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.data.AbstractItemImpl;
@@ -23,6 +22,7 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
 {
     private final ITrack           track;
     private final ClipLauncherSlot slot;
+    private ColorEx                color = ColorEx.BLACK;
 
 
     /**
@@ -52,6 +52,23 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
         slot.isRecordingQueued ().markInterested ();
         slot.isStopQueued ().markInterested ();
         slot.isSelected ().markInterested ();
+
+        // Increase the modification stamp on each change
+        slot.exists ().addValueObserver (value -> this.markChanged ());
+        slot.sceneIndex ().addValueObserver (value -> this.markChanged ());
+        slot.name ().addValueObserver (value -> this.markChanged ());
+        slot.hasContent ().addValueObserver (value -> this.markChanged ());
+        slot.isPlaying ().addValueObserver (value -> this.markChanged ());
+        slot.isPlaybackQueued ().addValueObserver (value -> this.markChanged ());
+        slot.isRecording ().addValueObserver (value -> this.markChanged ());
+        slot.isRecordingQueued ().addValueObserver (value -> this.markChanged ());
+        slot.isStopQueued ().addValueObserver (value -> this.markChanged ());
+        slot.isSelected ().addValueObserver (value -> this.markChanged ());
+        slot.color ().addValueObserver ( (red, green, blue) -> {
+            this.color = ColorEx.getShared (red, green, blue);
+            this.markChanged ();
+        });
+        this.enableModificationStamp ();
     }
 
 
@@ -186,8 +203,7 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
         if (this.track.isGroup ())
             return this.track.getColor ();
 
-        final ColorValue color = this.slot.color ();
-        return new ColorEx (color.red (), color.green (), color.blue ());
+        return this.color;
     }
 
 
@@ -277,4 +293,13 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
     {
         return this.slot;
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public long getModificationStamp ()
+    {
+        // The color of a slot in a group track is the color of the track
+        return sumModificationStamps (super.getModificationStamp (), this.track.getModificationStamp ());
+    }
 }
@@ -36,6 +36,8 @@ public class SoloParameterImpl extends AbstractParameterImpl
         this.channel = channel;
 
         channel.solo ().markInterested ();
+        channel.solo ().addValueObserver (value -> this.markChanged ());
+        this.enableModificationStamp ();
     }
 
 
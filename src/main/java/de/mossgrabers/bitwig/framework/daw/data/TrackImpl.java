@@ -100,6 +100,20 @@ public class TrackImpl extends ChannelImpl implements ITrack
         this.isTopGroup = track.createParentTrack (0, 0).createEqualsValue (rootGroup);
         this.isTopGroup.markInterested ();
 
+        // Increase the modification stamp on each change
+        track.trackType ().addValueObserver (value -> this.markChanged ());
+        track.position ().addValueObserver (value -> this.markChanged ());
+        track.isGroup ().addValueObserver (value -> this.markChanged ());
+        track.isGroupExpanded ().addValueObserver (value -> this.markChanged ());
+        track.arm ().addValueObserver (value -> this.markChanged ());
+        track.isMonitoring ().addValueObserver (value -> this.markChanged ());
+        track.monitorMode ().addValueObserver (value -> this.markChanged ());
+        track.crossFadeMode ().addValueObserver (value -> this.markChanged ());
+        track.canHoldNoteData ().addValueObserver (value -> this.markChanged ());
+        track.canHoldAudioData ().addValueObserver (value -> this.markChanged ());
+        track.isStopped ().addValueObserver (value -> this.markChanged ());
+        this.isTopGroup.addValueObserver (value -> this.markChanged ());
+
         this.crossfadeParameter = new CrossfadeParameter (valueChanger, track, index);
         this.slotBank = new SlotBankImpl (host, valueChanger, this, sceneBank, track.clipLauncherSlotBank (), numScenes);
 
@@ -108,6 +122,7 @@ public class TrackImpl extends ChannelImpl implements ITrack
         drumDeviceBank.setDeviceMatcher (drumMachineDeviceMatcher);
         this.drumMachineDevice = drumDeviceBank.getItemAt (0);
         this.drumMachineDevice.exists ().markInterested ();
+        this.drumMachineDevice.exists ().addValueObserver (value -> this.markChanged ());
 
         Arrays.fill (this.noteCache, NOTE_OFF);
     }
@@ -462,4 +477,12 @@ public class TrackImpl extends ChannelImpl implements ITrack
     {
         return this.track;
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public long getModificationStamp ()
+    {
+        return sumModificationStamps (super.getModificationStamp (), this.crossfadeParameter.getModificationStamp ());
+    }
 }
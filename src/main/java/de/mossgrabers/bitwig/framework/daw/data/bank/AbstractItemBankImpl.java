@@ -51,6 +51,11 @@ public abstract class AbstractItemBankImpl<B extends Bank<?>, T extends IItem> e
         bank.canScrollBackwards ().markInterested ();
         bank.canScrollForwards ().markInterested ();
         bank.itemCount ().markInterested ();
+
+        // Increase the modification stamp on each change
+        bank.scrollPosition ().addValueObserver (value -> this.markChanged ());
+        bank.itemCount ().addValueObserver (value -> this.markChanged ());
+        this.enableModificationStamp ();
     }
 
 
@@ -23,6 +23,22 @@ import de.mossgrabers.framework.graphics.IRenderer;
  */
 public record BitmapImpl (Bitmap bitmap) implements IBitmap
 {
+    /** {@inheritDoc} */
+    @Override
+    public double getWidth ()
+    {
+        return this.bitmap.getWidth ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getHeight ()
+    {
+        return this.bitmap.getHeight ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void setDisplayWindowTitle (final String title)
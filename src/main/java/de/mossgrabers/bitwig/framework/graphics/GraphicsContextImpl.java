@@ -7,6 +7,7 @@ package de.mossgrabers.bitwig.framework.graphics;
 import com.bitwig.extension.api.graphics.GradientPattern;
 import com.bitwig.extension.api.graphics.GraphicsOutput;
 import com.bitwig.extension.api.graphics.GraphicsOutput.AntialiasMode;
+import com.bitwig.extension.api.graphics.GraphicsOutput.Operator;
 import com.bitwig.extension.api.graphics.Image;
 
 import de.mossgrabers.framework.controller.color.ColorEx;
@@ -239,7 +240,8 @@ public class GraphicsContextImpl implements IGraphicsContext
     @Override
     public void drawImage (final IImage icon, final double x, final double y)
     {
-        this.gc.drawImage (((ImageImpl) icon).image (), x, y);
+        final Image image = icon instanceof final BitmapImpl bitmapImpl ? bitmapImpl.bitmap () : ((ImageImpl) icon).image ();
+        this.gc.drawImage (image, x, y);
     }
 
 
@@ -262,6 +264,16 @@ public class GraphicsContextImpl implements IGraphicsContext
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void clear ()
+    {
+        this.gc.setOperator (Operator.CLEAR);
+        this.gc.paint ();
+        this.gc.setOperator (Operator.OVER);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public double calculateFontSize (final String text, final double maxHeight, final double maxWidth, final double minimumFontSize)
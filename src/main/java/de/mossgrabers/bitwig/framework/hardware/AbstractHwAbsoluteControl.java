@@ -133,6 +133,14 @@ public abstract class AbstractHwAbsoluteControl<T extends AbsoluteHardwareContro
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public IParameter getParameter ()
+    {
+        return this.parameter;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void bind (final IMidiInput input, final BindType type, final int channel, final int control)
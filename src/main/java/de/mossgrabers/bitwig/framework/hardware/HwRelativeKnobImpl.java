@@ -29,12 +29,18 @@ import de.mossgrabers.framework.parameter.IParameter;
 
 
 /**
- * Implementation of a proxy to a relative knob on a hardware controller.
+ * Implementation of a proxy to a relative knob on a hardware controller. If the knob is bound to a
+ * parameter of the framework, which applies the size of a change, all changes which arrive until
+ * the next task is executed are combined into one. Changes of knobs which are bound to a command or
+ * to a Bitwig parameter and changes of parameters which move one step per message are applied
+ * individually, since combining them would change the result.
  *
  * @author Jürgen Moßgraber
  */
 public class HwRelativeKnobImpl extends AbstractHwContinuousControl implements IHwRelativeKnob
 {
+    private static final int                     MAX_SPEED              = 61;
+
     private final RelativeHardwareKnob           hardwareKnob;
     private final ControllerHost                 controllerHost;
     private final RelativeEncoding               encoding;
@@ -45,6 +51,8 @@ public class HwRelativeKnobImpl extends AbstractHwContinuousControl implements I
     private boolean                              shouldAdaptSensitivity = true;
     private int                                  control;
     private final List<IValueObserver<Void>>     observers              = new ArrayList<> ();
+    private double                               pendingChange          = 0;
+    private boolean                              isChangeScheduled      = false;
 
 
     /**
@@ -119,6 +127,9 @@ public class HwRelativeKnobImpl extends AbstractHwContinuousControl implements I
         if (this.binding != null)
             this.binding.removeBinding ();
 
+        // Changes for the previous parameter must not be applied to the new one
+        this.pendingChange = 0;
+
         // Remove the previously bound Bitwig parameter
         if (this.parameter instanceof final ParameterImpl param)
             HwUtils.enableObservers (false, this.hardwareKnob, param);
@@ -146,6 +157,14 @@ public class HwRelativeKnobImpl extends AbstractHwContinuousControl implements I
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public IParameter getParameter ()
+    {
+        return this.parameter;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void bind (final IMidiInput input, final BindType type, final int channel, final int control)
@@ -215,11 +234,57 @@ public class HwRelativeKnobImpl extends AbstractHwContinuousControl implements I
 
         this.notifyHasChangedObservers ();
 
-        // Convert the value back from the default 2s relative matcher, because we do the conversion
-        // our own way
-        final double a = value * 61.0;
-        final int v = (int) (a > 0 ? Math.ceil (a) : Math.floor (a));
-        this.parameter.changeValue (v);
+        // Parameters which ignore the size of a change move by one step for each message
+        if (!this.parameter.isChangeSizeApplied ())
+        {
+            this.parameter.changeValue (toControlValue (value));
+            return;
+        }
+
+        // Fast turns send a burst of messages, collect all changes which arrive until the next
+        // task is executed and apply them as one
+        this.pendingChange += value;
+        if (this.isChangeScheduled)
+            return;
+        this.isChangeScheduled = true;
+        this.host.scheduleTask (this::applySimpleParameterChange, 0);
+    }
+
+
+    private void applySimpleParameterChange ()
+    {
+        this.isChangeScheduled = false;
+        if (this.parameter == null || this.pendingChange == 0)
+            return;
+
+        final int speed = toControlValue (this.pendingChange);
+        if (Math.abs (speed) <= MAX_SPEED)
+        {
+            this.pendingChange = 0;
+            this.parameter.changeValue (speed);
+            return;
+        }
+
+        // The change is larger than the maximum speed, apply the rest with the next task
+        final double direction = Math.signum (this.pendingChange);
+        this.pendingChange -= direction;
+        this.parameter.changeValue ((int) direction * MAX_SPEED);
+        this.isChangeScheduled = true;
+        this.host.scheduleTask (this::applySimpleParameterChange, 0);
+    }
+
+
+    /**
+     * Convert the value back from the default 2s relative matcher, because we do the conversion our
+     * own way.
+     *
+     * @param value The value of the relative matcher
+     * @return The control value
+     */
+    private static int toControlValue (final double value)
+    {
+        final double a = value * MAX_SPEED;
+        return (int) (a > 0 ? Math.ceil (a) : Math.floor (a));
     }
 
 
@@ -32,6 +32,7 @@ import de.mossgrabers.framework.controller.hardware.IHwPianoKeyboard;
 import de.mossgrabers.framework.controller.hardware.IHwRelativeKnob;
 import de.mossgrabers.framework.controller.hardware.IHwSurfaceFactory;
 import de.mossgrabers.framework.controller.hardware.IHwTextDisplay;
+import de.mossgrabers.framework.controller.hardware.LongPressTimer;
 import de.mossgrabers.framework.controller.valuechanger.RelativeEncoding;
 import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.utils.OperatingSystem;
@@ -46,6 +47,7 @@ public class HwSurfaceFactoryImpl implements IHwSurfaceFactory
 {
     private final HostImpl        host;
     private final HardwareSurface hardwareSurface;
+    private final LongPressTimer  longPressTimer;
 
     private int                   lightCounter = 0;
     private final long            startup      = System.currentTimeMillis ();
@@ -64,6 +66,7 @@ public class HwSurfaceFactoryImpl implements IHwSurfaceFactory
         this.host = host;
         this.hardwareSurface = host.getControllerHost ().createHardwareSurface ();
         this.hardwareSurface.setPhysicalSize (width, height);
+        this.longPressTimer = new LongPressTimer (host);
     }
 
 
@@ -73,7 +76,7 @@ public class HwSurfaceFactoryImpl implements IHwSurfaceFactory
     {
         final String id = createID (surfaceID, buttonID.name ());
         final HardwareButton hwButton = this.hardwareSurface.createHardwareButton (id);
-        return new HwButtonImpl (this.host, hwButton, label);
+        return new HwButtonImpl (this.host, hwButton, label, this.longPressTimer);
     }
 
 
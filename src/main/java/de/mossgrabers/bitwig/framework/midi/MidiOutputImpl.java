@@ -45,15 +45,15 @@ class MidiOutputImpl extends AbstractMidiOutput
 
     /** {@inheritDoc} */
     @Override
-    public void sendSysex (final byte []... data)
+    protected void sendSysexMessage (final byte [] data)
     {
-        this.port.sendSysex (concatArrays (data));
+        this.port.sendSysex (data);
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public void sendSysex (final String data)
+    protected void sendSysexMessage (final String data)
     {
         this.port.sendSysex (data);
     }
@@ -8,6 +8,8 @@ import com.bitwig.extension.controller.api.NoteInput;
 
 import de.mossgrabers.framework.daw.midi.AbstractNoteInput;
 
+import java.util.Arrays;
+
 
 /**
  * Implementation for a note input.
@@ -17,6 +19,8 @@ import de.mossgrabers.framework.daw.midi.AbstractNoteInput;
 class NoteInputImpl extends AbstractNoteInput
 {
     private final NoteInput noteInput;
+    private int []          keyTranslationTable;
+    private int []          velocityTranslationTable;
 
 
     /**
@@ -39,6 +43,10 @@ class NoteInputImpl extends AbstractNoteInput
     @Override
     public void setKeyTranslationTable (final int [] table)
     {
+        // Skip the expensive update in Bitwig if the table did not change
+        if (Arrays.equals (this.keyTranslationTable, table))
+            return;
+        this.keyTranslationTable = table.clone ();
         this.noteInput.setKeyTranslationTable (boxArray (table));
     }
 
@@ -47,6 +55,9 @@ class NoteInputImpl extends AbstractNoteInput
     @Override
     public void setVelocityTranslationTable (final int [] table)
     {
+        if (Arrays.equals (this.velocityTranslationTable, table))
+            return;
+        this.velocityTranslationTable = table.clone ();
         this.noteInput.setVelocityTranslationTable (boxArray (table));
     }
 
@@ -15,6 +15,7 @@ import purejavahidapi.PureJavaHidApi;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Optional;
 
 
@@ -25,8 +26,13 @@ import java.util.Optional;
  */
 public class HidDeviceImpl implements IHidDevice
 {
-    private HidDevice hidDevice;
-    private boolean   isOpen;
+    private static final int     NUMBER_OF_REPORT_IDS = 256;
+
+    private HidDevice            hidDevice;
+    private boolean              isOpen;
+
+    private final ReportState [] outputReports        = new ReportState [NUMBER_OF_REPORT_IDS];
+    private final ReportState [] featureReports       = new ReportState [NUMBER_OF_REPORT_IDS];
 
 
     /**
@@ -74,21 +80,29 @@ public class HidDeviceImpl implements IHidDevice
     {
         if (!this.isOpen)
             return -1;
-        final byte [] data = toBuffer (memoryBlock);
 
-        // purehid documentation says otherwise but MAC also needs the report ID in
-        // data[0], therefore add it
-        byte [] d = data;
-        int l = data.length;
-        if (OperatingSystem.isMacOS ())
+        final ReportState state = getReportState (this.outputReports, reportID);
+        synchronized (state)
         {
-            l++;
-            d = new byte [l];
-            d[0] = reportID;
-            System.arraycopy (data, 0, d, 1, data.length);
-        }
+            // purehid documentation says otherwise but MAC also needs the report ID in
+            // data[0], therefore add it
+            final int offset = OperatingSystem.isMacOS () ? 1 : 0;
+            final int length = state.fill (memoryBlock, offset);
+            if (offset > 0)
+                state.buffer[0] = reportID;
+
+            if (state.isUnchanged (length))
+                return 0;
 
-        return this.hidDevice.setOutputReport (reportID, d, d.length);
+            final long now = System.currentTimeMillis ();
+            if (state.minimumInterval > 0 && now - state.lastSendTime < state.minimumInterval)
+                return 0;
+
+            final int result = this.hidDevice.setOutputReport (reportID, state.buffer, length);
+            if (result >= 0)
+                state.storeSent (length, now);
+            return result;
+        }
     }
 
 
@@ -98,8 +112,42 @@ public class HidDeviceImpl implements IHidDevice
     {
         if (!this.isOpen)
             return -1;
-        final byte [] data = toBuffer (memoryBlock);
-        return this.hidDevice.setFeatureReport (reportID, data, data.length);
+
+        final ReportState state = getReportState (this.featureReports, reportID);
+        synchronized (state)
+        {
+            final int length = state.fill (memoryBlock, 0);
+            return this.hidDevice.setFeatureReport (reportID, state.buffer, length);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setMinimumReportInterval (final byte reportID, final int interval)
+    {
+        final ReportState state = getReportState (this.outputReports, reportID);
+        synchronized (state)
+        {
+            state.minimumInterval = Math.max (0, interval);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void clearReportCache ()
+    {
+        for (final ReportState state: this.outputReports)
+        {
+            if (state != null)
+            {
+                synchronized (state)
+                {
+                    state.clearSent ();
+                }
+            }
+        }
     }
 
 
@@ -138,13 +186,90 @@ public class HidDeviceImpl implements IHidDevice
     }
 
 
-    private static byte [] toBuffer (final IMemoryBlock memoryBlock)
+    private static ReportState getReportState (final ReportState [] states, final byte reportID)
     {
-        final ByteBuffer buffer = memoryBlock.createByteBuffer ();
-        final int size = buffer.capacity ();
-        final byte [] data = new byte [size];
-        buffer.rewind ();
-        buffer.get (data);
-        return data;
+        final int index = Byte.toUnsignedInt (reportID);
+        synchronized (states)
+        {
+            ReportState state = states[index];
+            if (state == null)
+            {
+                state = new ReportState ();
+                states[index] = state;
+            }
+            return state;
+        }
+    }
+
+
+    /**
+     * The reusable send buffer and the snapshot of the last successfully sent data of one report
+     * ID.
+     */
+    private static class ReportState
+    {
+        private byte [] buffer         = new byte [0];
+        private byte [] lastSent       = new byte [0];
+        private int     lastSentLength = -1;
+        private long    lastSendTime;
+        private int     minimumInterval;
+
+
+        /**
+         * Copy the content of the memory block into the reusable buffer. The buffer is only
+         * re-allocated if the size of the memory block changes.
+         *
+         * @param memoryBlock The memory block to copy
+         * @param offset The number of bytes to reserve at the start of the buffer
+         * @return The number of valid bytes in the buffer
+         */
+        int fill (final IMemoryBlock memoryBlock, final int offset)
+        {
+            final ByteBuffer data = memoryBlock.createByteBuffer ();
+            final int size = data.capacity ();
+            final int length = size + offset;
+            if (this.buffer.length != length)
+                this.buffer = new byte [length];
+            data.rewind ();
+            data.get (this.buffer, offset, size);
+            return length;
+        }
+
+
+        /**
+         * Check if the buffer is identical to the data which was sent last.
+         *
+         * @param length The number of valid bytes in the buffer
+         * @return True if identical
+         */
+        boolean isUnchanged (final int length)
+        {
+            return this.lastSentLength == length && Arrays.equals (this.buffer, 0, length, this.lastSent, 0, length);
+        }
+
+
+        /**
+         * Store the current buffer as the last sent data.
+         *
+         * @param length The number of valid bytes in the buffer
+         * @param time The time when the data was sent
+         */
+        void storeSent (final int length, final long time)
+        {
+            if (this.lastSent.length < length)
+                this.lastSent = new byte [length];
+            System.arraycopy (this.buffer, 0, this.lastSent, 0, length);
+            this.lastSentLength = length;
+            this.lastSendTime = time;
+        }
+
+
+        /**
+         * Forget the last sent data, which forces the next report to be sent.
+         */
+        void clearSent ()
+        {
+            this.lastSentLength = -1;
+        }
     }
 }
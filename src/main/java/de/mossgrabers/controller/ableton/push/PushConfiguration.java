@@ -602,6 +602,7 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
         // Debugging
 
         this.activateDebugSettings (globalSettings);
+        this.activateStartupReportSetting (globalSettings);
     }
 
 
@@ -334,6 +334,7 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
     @Override
     protected void createModes ()
     {
+        // Rarely used modes are only created when they are activated for the first time
         final PushControlSurface surface = this.getSurface ();
         final ModeManager modeManager = surface.getModeManager ();
 
@@ -367,12 +368,12 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
 
         modeManager.register (Modes.GROOVE, new GrooveMode (surface, this.model));
         modeManager.register (Modes.REC_ARM, new QuantizeMode (surface, this.model));
-        modeManager.register (Modes.ACCENT, new AccentMode (surface, this.model));
+        modeManager.registerLazy (Modes.ACCENT, () -> new AccentMode (surface, this.model));
 
         modeManager.register (Modes.SCALES, new ScalesMode (surface, this.model));
         modeManager.register (Modes.SCALE_LAYOUT, new ScaleLayoutMode (surface, this.model));
-        modeManager.register (Modes.FIXED, new FixedMode (surface, this.model));
-        modeManager.register (Modes.RIBBON, new RibbonMode (surface, this.model));
+        modeManager.registerLazy (Modes.FIXED, () -> new FixedMode (surface, this.model));
+        modeManager.registerLazy (Modes.RIBBON, () -> new RibbonMode (surface, this.model));
         modeManager.register (Modes.VIEW_SELECT, new NoteViewSelectMode (surface, this.model));
 
         modeManager.register (Modes.AUTOMATION, new AutomationSelectionMode (surface, this.model));
@@ -381,20 +382,20 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
         modeManager.register (Modes.USER, new UserMode (surface, this.model));
 
         if (this.pushVersion == PushVersion.VERSION_1)
-            modeManager.register (Modes.CONFIGURATION, new ConfigurationMode (surface, this.model));
+            modeManager.registerLazy (Modes.CONFIGURATION, () -> new ConfigurationMode (surface, this.model));
         else
         {
-            modeManager.register (Modes.INFO, new InfoMode (surface, this.model));
-            modeManager.register (Modes.SETUP, new SetupMode (surface, this.model));
-            modeManager.register (Modes.CONFIGURATION, new MPEConfigurationMode (surface, this.model));
-            modeManager.register (Modes.AUDIO, new AudioConfigurationMode (surface, this.model));
+            modeManager.registerLazy (Modes.INFO, () -> new InfoMode (surface, this.model));
+            modeManager.registerLazy (Modes.SETUP, () -> new SetupMode (surface, this.model));
+            modeManager.registerLazy (Modes.CONFIGURATION, () -> new MPEConfigurationMode (surface, this.model));
+            modeManager.registerLazy (Modes.AUDIO, () -> new AudioConfigurationMode (surface, this.model));
         }
 
         modeManager.register (Modes.SESSION, new SessionMode (surface, this.model));
         modeManager.register (Modes.SESSION_VIEW_SELECT, new SessionViewSelectMode (surface, this.model));
 
         modeManager.register (Modes.REPEAT_NOTE, new NoteRepeatMode (surface, this.model));
-        modeManager.register (Modes.ADD_TRACK, new AddTrackMode (surface, this.model));
+        modeManager.registerLazy (Modes.ADD_TRACK, () -> new AddTrackMode (surface, this.model));
     }
 
 
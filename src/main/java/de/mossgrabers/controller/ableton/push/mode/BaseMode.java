@@ -78,6 +78,16 @@ public abstract class BaseMode<B extends IItem> extends AbstractParameterMode<Pu
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected void repeatDisplay ()
+    {
+        // The graphics display needs a frame on each update, which also shows the notifications
+        if (this.surface.getConfiguration ().isPushModern ())
+            this.surface.getGraphicsDisplay ().sendLastFrame ();
+    }
+
+
     /**
      * Update the display of Push 1.
      *
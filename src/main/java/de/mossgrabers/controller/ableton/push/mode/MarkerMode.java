@@ -93,9 +93,11 @@ public class MarkerMode extends BaseMode<IMarker>
                 break;
             case 6:
                 this.actionModeLaunch = false;
+                this.invalidateDisplay ();
                 break;
             case 7:
                 this.actionModeLaunch = true;
+                this.invalidateDisplay ();
                 break;
             default:
                 // Not used
@@ -122,6 +124,14 @@ public class MarkerMode extends BaseMode<IMarker>
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected long getDisplayStamp ()
+    {
+        return this.bank.getModificationStamp ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void updateDisplay1 (final ITextDisplay display)
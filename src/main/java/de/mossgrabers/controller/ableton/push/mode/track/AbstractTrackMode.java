@@ -609,4 +609,35 @@ public abstract class AbstractTrackMode extends BaseMode<ITrack>
         final ChannelType type = track.getType ();
         return type == ChannelType.GROUP && track.isGroupExpanded () ? ChannelType.GROUP_OPEN : type;
     }
+
+
+    /**
+     * Get the display stamp of a mode which only displays the channels of the current track bank.
+     *
+     * @return The display stamp, -1 if the VU meters are enabled
+     */
+    protected long getChannelDisplayStamp ()
+    {
+        // The VU meters do not have a modification stamp
+        if (this.configuration.isEnableVUMeters ())
+            return -1;
+
+        final ITrackBank tb = this.model.getCurrentTrackBank ();
+        int state = 0;
+        if (this.model.isEffectTrackBankActive ())
+            state |= 1;
+        if (tb.hasParent ())
+            state |= 2;
+        if (this.model.getCursorTrack ().isPinned ())
+            state |= 4;
+        if (this.surface.isShiftPressed ())
+            state |= 8;
+        if (this.configuration.isMuteState (this.surface.isLongPressed (ButtonID.MUTE)))
+            state |= 16;
+        if (this.configuration.isSoloState (this.surface.isLongPressed (ButtonID.SOLO)))
+            state |= 32;
+        if (this.configuration.isClipStopState (this.surface.isLongPressed (ButtonID.STOP_CLIP)))
+            state |= 64;
+        return combineDisplayStamp (tb.getModificationStamp (), state);
+    }
 }
\ No newline at end of file
@@ -51,6 +51,14 @@ public class CrossfadeMode extends AbstractTrackMode
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected long getDisplayStamp ()
+    {
+        return this.getChannelDisplayStamp ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void updateDisplay1 (final ITextDisplay display)
@@ -36,6 +36,14 @@ public class PanMode extends AbstractTrackMode
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected long getDisplayStamp ()
+    {
+        return this.getChannelDisplayStamp ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void updateDisplay1 (final ITextDisplay display)
@@ -61,6 +61,14 @@ public class SendMode extends AbstractTrackMode
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected long getDisplayStamp ()
+    {
+        return this.getChannelDisplayStamp ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void updateDisplay1 (final ITextDisplay display)
@@ -38,6 +38,14 @@ public class VolumeMode extends AbstractTrackMode
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected long getDisplayStamp ()
+    {
+        return this.getChannelDisplayStamp ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void updateDisplay1 (final ITextDisplay display)
@@ -311,4 +311,28 @@ public class ACVSMidiOutput implements IMidiOutput
     {
         // Not used
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void beginBatch ()
+    {
+        this.output.beginBatch ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void endBatch ()
+    {
+        this.output.endBatch ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setBandwidthLimit (final int maxBytes)
+    {
+        this.output.setBandwidthLimit (maxBytes);
+    }
 }
@@ -227,6 +227,7 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
     }
 
     private static final String                        SET_GROUP_TITLE              = "sgt(%s,\"%s\")";
+    private static final int                           MAX_LUA_BATCH_LENGTH         = 4000;
 
     private final List<int []>                         sysexChunks                  = new ArrayList<> ();
     private final IMidiInput                           ctrlInput;
@@ -246,6 +247,14 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
     private final Map<int [], TouchCombinationCommand> commandPatterns              = new HashMap<> ();
     private ElectraOneType                             electraOneType               = ElectraOneType.MK1;
 
+    private final Object                               updateLock                   = new Object ();
+    private final StringWriter                         jsonWriter                   = new StringWriter ();
+    private JsonGenerator                              jsonGenerator                = null;
+    private final ByteArrayOutputStream                sysexBuffer                  = new ByteArrayOutputStream ();
+    private final StringBuilder                        luaBatch                     = new StringBuilder ();
+    private boolean                                    isBatching                   = false;
+    private boolean                                    isRepaintDisabled            = false;
+
 
     /**
      * Constructor.
@@ -339,7 +348,56 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
      */
     public void updateGroupLabel (final int groupID, final String label)
     {
-        this.sendLua (String.format (SET_GROUP_TITLE, Integer.toString (groupID), label));
+        final String code = String.format (SET_GROUP_TITLE, Integer.toString (groupID), label);
+
+        synchronized (this.updateLock)
+        {
+            if (!this.isBatching)
+            {
+                this.sendLua (code);
+                return;
+            }
+
+            this.disableRepaintForBatch ();
+            if (this.luaBatch.length () + code.length () > MAX_LUA_BATCH_LENGTH)
+                this.flushLuaBatch ();
+            if (!this.luaBatch.isEmpty ())
+                this.luaBatch.append ('\n');
+            this.luaBatch.append (code);
+        }
+    }
+
+
+    /**
+     * Start a batch of updates. The display repaint of the device is disabled with the first label
+     * update of the batch and all group labels are collected into a single LUA message, which is
+     * sent when the batch ends.
+     */
+    public void beginUpdateBatch ()
+    {
+        synchronized (this.updateLock)
+        {
+            this.isBatching = true;
+        }
+    }
+
+
+    /**
+     * End a batch of updates. Sends the collected group labels and enables the display repaint
+     * again, if it was disabled.
+     */
+    public void endUpdateBatch ()
+    {
+        synchronized (this.updateLock)
+        {
+            this.flushLuaBatch ();
+            if (this.isRepaintDisabled)
+            {
+                this.setRepaintEnabled (true);
+                this.isRepaintDisabled = false;
+            }
+            this.isBatching = false;
+        }
     }
 
 
@@ -365,25 +423,45 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
      */
     public void updateLabel (final int controlID, final String name, final ColorEx color, final Boolean visibility)
     {
-        final StringWriter writer = new StringWriter ();
-        try (final JsonGenerator generator = this.mapper.createGenerator (writer))
-        {
-            generator.writeStartObject ();
-            if (name != null)
-                generator.writeStringField ("name", name);
-            if (color != null)
-                generator.writeStringField ("color", StringUtils.formatColor (color));
-            if (visibility != null)
-                generator.writeBooleanField ("visible", visibility.booleanValue ());
-            generator.writeEndObject ();
-        }
-        catch (final IOException ex)
+        synchronized (this.updateLock)
         {
-            this.host.error (name, ex);
-            return;
-        }
+            final String json;
+            try
+            {
+                // The generator is kept open and writes each object as a new root value
+                if (this.jsonGenerator == null)
+                {
+                    this.jsonGenerator = this.mapper.createGenerator (this.jsonWriter);
+                    this.jsonGenerator.setRootValueSeparator (null);
+                }
 
-        this.sendText (createCommand (controlID, SYSEX_RUNTIME_CONTROL_UPDATE), writer.toString ());
+                this.jsonGenerator.writeStartObject ();
+                if (name != null)
+                    this.jsonGenerator.writeStringField ("name", name);
+                if (color != null)
+                    this.jsonGenerator.writeStringField ("color", StringUtils.formatColor (color));
+                if (visibility != null)
+                    this.jsonGenerator.writeBooleanField ("visible", visibility.booleanValue ());
+                this.jsonGenerator.writeEndObject ();
+                this.jsonGenerator.flush ();
+
+                json = this.jsonWriter.toString ();
+            }
+            catch (final IOException ex)
+            {
+                this.host.error (name, ex);
+                // Start over with a fresh generator
+                this.jsonGenerator = null;
+                return;
+            }
+            finally
+            {
+                this.jsonWriter.getBuffer ().setLength (0);
+            }
+
+            this.disableRepaintForBatch ();
+            this.sendText (createCommand (controlID, SYSEX_RUNTIME_CONTROL_UPDATE), json);
+        }
     }
 
 
@@ -399,7 +477,12 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
         final byte [] command = new byte [cmd.length + 1];
         System.arraycopy (cmd, 0, command, 0, cmd.length);
         command[cmd.length] = 0;
-        this.sendText (command, label);
+
+        synchronized (this.updateLock)
+        {
+            this.disableRepaintForBatch ();
+            this.sendText (command, label);
+        }
     }
 
 
@@ -502,6 +585,31 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
     }
 
 
+    /**
+     * Disables the display repaint of the device if a batch is active and it is not yet disabled.
+     */
+    private void disableRepaintForBatch ()
+    {
+        if (this.isBatching && !this.isRepaintDisabled)
+        {
+            this.setRepaintEnabled (false);
+            this.isRepaintDisabled = true;
+        }
+    }
+
+
+    /**
+     * Send the collected LUA code of the active batch, if any.
+     */
+    private void flushLuaBatch ()
+    {
+        if (this.luaBatch.isEmpty ())
+            return;
+        this.sendLua (this.luaBatch.toString ());
+        this.luaBatch.setLength (0);
+    }
+
+
     /**
      * Send LUA code for execution to the Electra.One.
      *
@@ -533,18 +641,17 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
      */
     private void sendSysex (final byte [] command, final byte [] content)
     {
-        try (final ByteArrayOutputStream out = new ByteArrayOutputStream ())
-        {
-            out.write (SYSEX_HDR_BYTE);
-            out.write (command);
-            out.write (content);
-            out.write ((byte) 0xF7);
-            this.ctrlOutput.sendSysex (out.toByteArray ());
-        }
-        catch (final IOException ex)
+        final byte [] data;
+        synchronized (this.sysexBuffer)
         {
-            this.host.error ("Could not schedule JSON command.", ex);
+            this.sysexBuffer.reset ();
+            this.sysexBuffer.writeBytes (SYSEX_HDR_BYTE);
+            this.sysexBuffer.writeBytes (command);
+            this.sysexBuffer.writeBytes (content);
+            this.sysexBuffer.write (0xF7);
+            data = this.sysexBuffer.toByteArray ();
         }
+        this.ctrlOutput.sendSysex (data);
     }
 
 
@@ -162,7 +162,7 @@ class PageCache
             if (!this.isDirty)
                 return;
 
-            this.surface.setRepaintEnabled (false);
+            this.surface.beginUpdateBatch ();
 
             // Flush values and their labels
             for (int row = 0; row < NUM_ROWS; row++)
@@ -236,7 +236,7 @@ class PageCache
 
             this.isDirty = false;
 
-            this.surface.setRepaintEnabled (true);
+            this.surface.endUpdateBatch ();
         }
     }
 
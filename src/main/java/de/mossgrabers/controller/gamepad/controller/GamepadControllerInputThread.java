@@ -13,29 +13,38 @@ import com.studiohartman.jamepad.ControllerIndex;
 import com.studiohartman.jamepad.ControllerManager;
 import com.studiohartman.jamepad.ControllerUnpluggedException;
 
-import java.util.EnumMap;
-import java.util.Map;
+import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 
 /**
- * Thread to monitor the input coming from a Gamepad.
+ * Thread to monitor the input coming from a Gamepad. The polling interval adapts to the input: it is
+ * short as long as the inputs change and is increased step by step while the gamepad is idle. All
+ * changes of one poll are delivered to the control thread in one task.
  *
  * @author Jürgen Moßgraber
  */
 public class GamepadControllerInputThread implements Runnable
 {
-    private static final long                    INTERVAL           = 1;
+    private static final long                MIN_INTERVAL       = 1;
+    private static final long                MAX_INTERVAL       = 16;
+    /** Axis positions closer to the center are treated as center. */
+    private static final float               AXIS_DEAD_ZONE     = 0.05f;
+    /** Smaller changes of an axis position are ignored. */
+    private static final float               AXIS_RESOLUTION    = 0.005f;
 
-    private final AtomicBoolean                  running            = new AtomicBoolean (false);
+    private static final ControllerButton [] BUTTONS            = ControllerButton.values ();
+    private static final ControllerAxis []   AXES               = ControllerAxis.values ();
 
-    private final IHost                          host;
-    private final ControllerManager              gamepadManager;
-    private final IGamepadCallback               gamepadCallback;
-    private final Map<ControllerButton, Boolean> buttonStates       = new EnumMap<> (ControllerButton.class);
-    private final Map<ControllerAxis, Float>     axisStates         = new EnumMap<> (ControllerAxis.class);
+    private final AtomicBoolean              running            = new AtomicBoolean (false);
 
-    private int                                  selectedController = -1;
+    private final IHost                      host;
+    private final ControllerManager          gamepadManager;
+    private final IGamepadCallback           gamepadCallback;
+    private long                             buttonStates       = 0;
+    private final float []                   axisStates         = new float [AXES.length];
+
+    private int                              selectedController = -1;
 
 
     /**
@@ -98,6 +107,8 @@ public class GamepadControllerInputThread implements Runnable
     {
         this.running.set (true);
 
+        long interval = MIN_INTERVAL;
+
         try
         {
             while (this.running.get ())
@@ -105,7 +116,7 @@ public class GamepadControllerInputThread implements Runnable
                 // Hand over to other running threads
                 try
                 {
-                    Thread.sleep (INTERVAL);
+                    Thread.sleep (interval);
                 }
                 catch (final InterruptedException ex)
                 {
@@ -115,54 +126,105 @@ public class GamepadControllerInputThread implements Runnable
                 if (!this.running.get ())
                     break;
 
-                synchronized (this.gamepadManager)
+                // Poll fast while the inputs change, back off while idle
+                interval = this.poll () ? MIN_INTERVAL : Math.min (MAX_INTERVAL, interval * 2);
+            }
+        }
+        catch (final RuntimeException ex)
+        {
+            this.host.error ("Controller error.", ex);
+        }
+    }
+
+
+    /**
+     * Read the state of all buttons and axes of the selected gamepad and send the changes to the
+     * control thread.
+     *
+     * @return True if any input has changed
+     */
+    private boolean poll ()
+    {
+        long newButtonStates = 0;
+        long changedAxes = 0;
+        final float [] newAxisStates;
+
+        synchronized (this.gamepadManager)
+        {
+            if (this.selectedController < 0 || this.selectedController >= this.gamepadManager.getNumControllers ())
+                return false;
+
+            final ControllerIndex currController = this.gamepadManager.getControllerIndex (this.selectedController);
+            if (!currController.isConnected ())
+            {
+                this.gamepadManager.update ();
+                if (this.selectedController >= 0 && this.selectedController < this.gamepadManager.getNumControllers ())
+                    currController.reconnectController ();
+                return false;
+            }
+
+            try
+            {
+                for (int i = 0; i < BUTTONS.length; i++)
                 {
-                    if (this.selectedController < 0 || this.selectedController >= this.gamepadManager.getNumControllers ())
-                        continue;
+                    if (currController.isButtonPressed (BUTTONS[i]))
+                        newButtonStates |= 1L << i;
+                }
 
-                    final ControllerIndex currController = this.gamepadManager.getControllerIndex (this.selectedController);
-                    if (!currController.isConnected ())
-                    {
-                        this.gamepadManager.update ();
-                        if (this.selectedController >= 0 && this.selectedController < this.gamepadManager.getNumControllers ())
-                            currController.reconnectController ();
+                newAxisStates = Arrays.copyOf (this.axisStates, AXES.length);
+                for (int i = 0; i < AXES.length; i++)
+                {
+                    float position = currController.getAxisState (AXES[i]);
+                    if (Math.abs (position) < AXIS_DEAD_ZONE)
+                        position = 0;
+                    if (position == this.axisStates[i] || position != 0 && Math.abs (position - this.axisStates[i]) < AXIS_RESOLUTION)
                         continue;
-                    }
-
-                    try
-                    {
-                        for (final ControllerButton button: ControllerButton.values ())
-                        {
-                            final boolean isPressed = currController.isButtonPressed (button);
-                            final Boolean state = this.buttonStates.getOrDefault (button, Boolean.FALSE);
-                            if (state.booleanValue () == isPressed)
-                                continue;
-
-                            this.buttonStates.put (button, Boolean.valueOf (isPressed));
-                            this.host.scheduleTask ( () -> this.gamepadCallback.process (button, isPressed ? ButtonEvent.DOWN : ButtonEvent.UP), 0);
-                        }
-
-                        for (final ControllerAxis axis: ControllerAxis.values ())
-                        {
-                            final float position = currController.getAxisState (axis);
-                            final Float state = this.axisStates.getOrDefault (axis, Float.valueOf (0));
-                            if (state.floatValue () == position)
-                                continue;
-
-                            this.axisStates.put (axis, Float.valueOf (position));
-                            this.host.scheduleTask ( () -> this.gamepadCallback.process (axis, position), 0);
-                        }
-                    }
-                    catch (final ControllerUnpluggedException ex)
-                    {
-                        this.host.error ("Controller not connected.");
-                    }
+                    newAxisStates[i] = position;
+                    changedAxes |= 1L << i;
                 }
             }
+            catch (final ControllerUnpluggedException ex)
+            {
+                this.host.error ("Controller not connected.");
+                return false;
+            }
         }
-        catch (final RuntimeException ex)
+
+        final long changedButtons = newButtonStates ^ this.buttonStates;
+        if (changedButtons == 0 && changedAxes == 0)
+            return false;
+
+        this.buttonStates = newButtonStates;
+        System.arraycopy (newAxisStates, 0, this.axisStates, 0, AXES.length);
+
+        final long pressedButtons = newButtonStates;
+        final long axes = changedAxes;
+        this.host.scheduleTask ( () -> this.deliver (changedButtons, pressedButtons, axes, newAxisStates), 0);
+        return true;
+    }
+
+
+    /**
+     * Send the changes of one poll to the callback. Runs in the control thread.
+     *
+     * @param changedButtons The bits of the buttons which have changed
+     * @param pressedButtons The bits of the buttons which are pressed
+     * @param changedAxes The bits of the axes which have changed
+     * @param axisPositions The positions of all axes
+     */
+    private void deliver (final long changedButtons, final long pressedButtons, final long changedAxes, final float [] axisPositions)
+    {
+        for (int i = 0; i < BUTTONS.length; i++)
         {
-            this.host.error ("Controller error.", ex);
+            final long bit = 1L << i;
+            if ((changedButtons & bit) != 0)
+                this.gamepadCallback.process (BUTTONS[i], (pressedButtons & bit) != 0 ? ButtonEvent.DOWN : ButtonEvent.UP);
+        }
+
+        for (int i = 0; i < AXES.length; i++)
+        {
+            if ((changedAxes & 1L << i) != 0)
+                this.gamepadCallback.process (AXES[i], axisPositions[i]);
         }
     }
 }
@@ -225,6 +225,9 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
         Arrays.fill (this.currentColors, (byte) -1);
         for (int i = 0; i < 8; i++)
             Arrays.fill (this.currentAsparionColors[i], -1);
+
+        // Send the motor faders, LEDs and meters of a flush before the display updates
+        this.setOutputBatched (true);
     }
 
 
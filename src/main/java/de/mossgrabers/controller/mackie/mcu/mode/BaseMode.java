@@ -140,7 +140,7 @@ public abstract class BaseMode<B extends IItem> extends AbstractParameterMode<MC
         if (parameterProvider != null)
         {
             for (int i = 0; i < this.controls.size (); i++)
-                this.surface.getContinuous (ContinuousID.get (ContinuousID.FADER1, i)).bind (parameterProvider.get (i));
+                this.bindControl (ContinuousID.get (ContinuousID.FADER1, i), parameterProvider.get (i));
         }
     }
 
@@ -4,6 +4,7 @@
 
 package de.mossgrabers.controller.mackie.mcu.mode.track;
 
+import de.mossgrabers.controller.mackie.mcu.MCUConfiguration.SecondDisplay;
 import de.mossgrabers.controller.mackie.mcu.controller.MCUControlSurface;
 import de.mossgrabers.controller.mackie.mcu.mode.BaseMode;
 import de.mossgrabers.framework.daw.IModel;
@@ -42,6 +43,28 @@ public abstract class AbstractTrackMode extends BaseMode<ITrack>
     }
 
 
+    /**
+     * Get the display stamp of a mode which only displays the parameters of the channels of the
+     * track bank.
+     *
+     * @return The display stamp, -1 if the second display shows the name of the cursor device
+     */
+    protected long getChannelDisplayStamp ()
+    {
+        // The cursor device does not have a modification stamp
+        final SecondDisplay secondDisplay = this.configuration.getSecondDisplayType ();
+        if (secondDisplay == SecondDisplay.QCON || secondDisplay == SecondDisplay.V1M)
+            return -1;
+
+        int state = this.configuration.getMainDisplayType ().ordinal () | secondDisplay.ordinal () << 2;
+        if (this.configuration.isDisplayTrackNames ())
+            state |= 16;
+        if (this.model.isEffectTrackBankActive ())
+            state |= 32;
+        return combineDisplayStamp (this.getTrackBank ().getModificationStamp (), state);
+    }
+
+
     protected void updateItemIndices ()
     {
         final ITrackBank trackBank = this.model.getCurrentTrackBank ();
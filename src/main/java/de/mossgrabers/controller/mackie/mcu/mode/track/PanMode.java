@@ -47,4 +47,12 @@ public class PanMode extends AbstractTrackMode
     {
         this.updateKnobLEDs (LED_MODES_BOOST_CUT);
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected long getDisplayStamp ()
+    {
+        return this.getChannelDisplayStamp ();
+    }
 }
\ No newline at end of file
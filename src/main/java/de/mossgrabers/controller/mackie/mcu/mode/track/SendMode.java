@@ -88,4 +88,12 @@ public class SendMode extends AbstractTrackMode
 
         super.updateKnobLEDs ();
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected long getDisplayStamp ()
+    {
+        return this.getChannelDisplayStamp ();
+    }
 }
\ No newline at end of file
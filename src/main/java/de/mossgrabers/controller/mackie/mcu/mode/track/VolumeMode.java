@@ -39,4 +39,12 @@ public class VolumeMode extends AbstractTrackMode
         }
         this.setParameterProvider (parameterProvider);
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected long getDisplayStamp ()
+    {
+        return this.getChannelDisplayStamp ();
+    }
 }
\ No newline at end of file
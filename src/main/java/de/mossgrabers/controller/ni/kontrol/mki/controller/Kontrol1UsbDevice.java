@@ -408,6 +408,9 @@ public class Kontrol1UsbDevice
     private static final int                   SIZE_DISPLAY              = 248;
     private static final int                   SIZE_BUTTON_LEDS          = 25;
 
+    /** The minimum time in milliseconds between two LED or display reports. */
+    private static final int                   MINIMUM_REPORT_INTERVAL   = 20;
+
     private final int                          sizeKeyLEDs;
     private final IMemoryBlock                 displayBlock;
     private final IMemoryBlock                 ledBlock;
@@ -428,10 +431,8 @@ public class Kontrol1UsbDevice
     private int                                firstNote                 = 48;
 
     private final byte []                      buttonStates              = new byte [21];
-    private final byte []                      oldButtonStates           = new byte [21];
 
     private final byte []                      keyColors                 = new byte [88 * 3];
-    private final byte []                      oldKeyColors              = new byte [88 * 3];
 
     private final boolean [] []                dots                      = new boolean [2] [72];
     private final int [] []                    bars                      = new int [9] [9];
@@ -439,6 +440,7 @@ public class Kontrol1UsbDevice
     private final char [] []                   oldTexts                  = new char [2] [72];
 
     private final byte []                      line0                     = new byte [SIZE_DISPLAY];
+    private final byte []                      newLine0                  = new byte [SIZE_DISPLAY];
 
     private boolean                            isFirstStateMsg           = true;
 
@@ -487,6 +489,11 @@ public class Kontrol1UsbDevice
             {
                 this.hidDevice = hidDevOpt.get ();
                 this.hidDevice.setCallback ( (reportID, data, received) -> this.processHIDMessage (reportID, data));
+
+                // Dropped reports are sent again on the next flush
+                this.hidDevice.setMinimumReportInterval (REPORT_ID_OUTPUT_LEDS, MINIMUM_REPORT_INTERVAL);
+                this.hidDevice.setMinimumReportInterval (REPORT_ID_OUTPUT_KEY_LEDS, MINIMUM_REPORT_INTERVAL);
+                this.hidDevice.setMinimumReportInterval (REPORT_ID_OUTPUT_DISPLAY, MINIMUM_REPORT_INTERVAL);
             }
         }
         catch (final UsbException ex)
@@ -502,9 +509,6 @@ public class Kontrol1UsbDevice
         this.ledBlock = host.createMemoryBlock (SIZE_BUTTON_LEDS);
         this.keyLedBlock = host.createMemoryBlock (this.sizeKeyLEDs);
         this.initBlock = host.createMemoryBlock (2);
-
-        // To send black LEDs on startup
-        this.oldKeyColors[0] = -1;
     }
 
 
@@ -542,6 +546,8 @@ public class Kontrol1UsbDevice
         {
             final ByteBuffer buffer = this.initBlock.createByteBuffer ();
             padBuffer (buffer);
+            // The device is reset, therefore all reports need to be sent again
+            this.hidDevice.clearReportCache ();
             this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_INIT, this.initBlock);
         }
     }
@@ -690,28 +696,27 @@ public class Kontrol1UsbDevice
             }
             padBuffer (displayBuffer);
 
-            final byte [] l0 = new byte [SIZE_DISPLAY];
             displayBuffer.rewind ();
-            displayBuffer.get (l0);
+            displayBuffer.get (this.newLine0);
 
-            if (!Arrays.equals (this.line0, l0))
-            {
-                System.arraycopy (l0, 0, this.line0, 0, this.line0.length);
-                this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_DISPLAY, this.displayBlock);
-            }
+            // The display report ID is shared by all rows, therefore the rows need to be compared
+            // here since the HID device only compares with the last sent row. A row is only marked
+            // as sent if it was not dropped due to the minimum report interval, otherwise it is
+            // sent again on the next flush
+            if (!Arrays.equals (this.line0, this.newLine0) && this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_DISPLAY, this.displayBlock) > 0)
+                System.arraycopy (this.newLine0, 0, this.line0, 0, this.line0.length);
 
             for (int row = 1; row < 3; row++)
             {
                 if (!Arrays.equals (this.oldTexts[row - 1], this.texts[row - 1]))
                 {
-                    System.arraycopy (this.texts[row - 1], 0, this.oldTexts[row - 1], 0, this.oldTexts[row - 1].length);
-
                     fillHeader (displayBuffer, row);
                     for (int j = 0; j < 72; j++)
                         displayBuffer.put (this.getCharacter (row - 1, j));
 
                     padBuffer (displayBuffer);
-                    this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_DISPLAY, this.displayBlock);
+                    if (this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_DISPLAY, this.displayBlock) > 0)
+                        System.arraycopy (this.texts[row - 1], 0, this.oldTexts[row - 1], 0, this.oldTexts[row - 1].length);
                 }
             }
         }
@@ -746,7 +751,7 @@ public class Kontrol1UsbDevice
 
 
     /**
-     * Send the LED status updates to the device.
+     * Send the LED status updates to the device. Unchanged states are not sent by the HID device.
      */
     public void updateButtonLEDs ()
     {
@@ -755,10 +760,6 @@ public class Kontrol1UsbDevice
 
         synchronized (this.ledBlock)
         {
-            if (Arrays.equals (this.oldButtonStates, this.buttonStates))
-                return;
-            System.arraycopy (this.buttonStates, 0, this.oldButtonStates, 0, this.oldButtonStates.length);
-
             final ByteBuffer ledBuffer = this.ledBlock.createByteBuffer ();
             ledBuffer.clear ();
             ledBuffer.put (this.buttonStates);
@@ -793,7 +794,8 @@ public class Kontrol1UsbDevice
 
 
     /**
-     * Send the key LED stati updates to the device.
+     * Send the key LED stati updates to the device. Unchanged states are not sent by the HID
+     * device.
      */
     public void updateKeyLEDs ()
     {
@@ -802,9 +804,6 @@ public class Kontrol1UsbDevice
 
         synchronized (this.keyLedBlock)
         {
-            if (Arrays.equals (this.oldKeyColors, this.keyColors))
-                return;
-            System.arraycopy (this.keyColors, 0, this.oldKeyColors, 0, this.oldKeyColors.length);
             final ByteBuffer keyLedBuffer = this.keyLedBlock.createByteBuffer ();
             keyLedBuffer.clear ();
             keyLedBuffer.put (this.keyColors, 0, this.sizeKeyLEDs);
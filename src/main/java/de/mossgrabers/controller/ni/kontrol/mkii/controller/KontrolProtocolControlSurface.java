@@ -18,9 +18,9 @@ import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.mode.Modes;
 import de.mossgrabers.framework.utils.StringUtils;
 
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Map;
-import java.util.TreeMap;
+import java.util.List;
 
 
 /**
@@ -192,6 +192,8 @@ public class KontrolProtocolControlSurface extends AbstractControlSurface<Kontro
     private final Object             handshakeLock                    = new Object ();
     private boolean                  isConnectedToNIHIA               = false;
     private final int []                   ccValueCache                     = new int [255];
+    private final List<byte []>      pendingSysex                     = new ArrayList<> ();
+    private boolean                  isBatchingSysex                  = false;
 
 
     /**
@@ -481,9 +483,69 @@ public class KontrolProtocolControlSurface extends AbstractControlSurface<Kontro
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected void internalFlushHandler ()
+    {
+        synchronized (this.cacheLock)
+        {
+            this.isBatchingSysex = true;
+        }
+
+        try
+        {
+            super.internalFlushHandler ();
+        }
+        finally
+        {
+            this.sendPendingSysEx ();
+        }
+    }
+
+
+    /**
+     * Send a system exclusive message with the NIHIA header. During a flush the message is added
+     * to the pending messages, which are all sent at the end of the flush.
+     *
+     * @param data The data to send after the header
+     */
     private void sendNHIASysEx (final byte [] data)
     {
-        super.sendSysex (NHIA_SYSEX_HEADER, data);
+        final byte [] message = new byte [NHIA_SYSEX_HEADER.length + data.length + 1];
+        System.arraycopy (NHIA_SYSEX_HEADER, 0, message, 0, NHIA_SYSEX_HEADER.length);
+        System.arraycopy (data, 0, message, NHIA_SYSEX_HEADER.length, data.length);
+        message[message.length - 1] = (byte) 0xF7;
+
+        synchronized (this.cacheLock)
+        {
+            if (this.isBatchingSysex)
+            {
+                this.pendingSysex.add (message);
+                return;
+            }
+        }
+
+        this.output.sendSysex (message);
+    }
+
+
+    /**
+     * Send all messages which were collected during a flush in one sequence.
+     */
+    private void sendPendingSysEx ()
+    {
+        final byte [] [] messages;
+        synchronized (this.cacheLock)
+        {
+            this.isBatchingSysex = false;
+            if (this.pendingSysex.isEmpty ())
+                return;
+            messages = this.pendingSysex.toArray (new byte [this.pendingSysex.size ()] []);
+            this.pendingSysex.clear ();
+        }
+
+        for (final byte [] message: messages)
+            this.output.sendSysex (message);
     }
 
 
@@ -560,14 +622,19 @@ public class KontrolProtocolControlSurface extends AbstractControlSurface<Kontro
 
 
     /**
-     * Caches the values of the system exclusive values.
+     * Caches the values of the system exclusive values. There is one table for each command (state
+     * ID), which contains the value and the further data of each index.
      */
     private static class ValueCache
     {
-        private final Map<Integer, Map<Integer, int []>> cache                 = new TreeMap<> ();
+        private static final int   NUM_COMMANDS          = 128;
+        private static final int   MIN_SLOTS             = 16;
+
+        private final int [] []    values                = new int [NUM_COMMANDS] [];
+        private final int [] [] [] data                  = new int [NUM_COMMANDS] [] [];
 
-        private int                                      numParameterPages     = -1;
-        private int                                      selectedParameterPage = -1;
+        private int                numParameterPages     = -1;
+        private int                selectedParameterPage = -1;
 
 
         /**
@@ -575,7 +642,8 @@ public class KontrolProtocolControlSurface extends AbstractControlSurface<Kontro
          */
         public final void clearCache ()
         {
-            this.cache.clear ();
+            Arrays.fill (this.values, null);
+            Arrays.fill (this.data, null);
         }
 
 
@@ -603,19 +671,30 @@ public class KontrolProtocolControlSurface extends AbstractControlSurface<Kontro
                 return true;
             }
 
-            final Map<Integer, int []> item = this.cache.computeIfAbsent (Integer.valueOf (key1), key -> new TreeMap<> ());
-            final int [] values = item.get (Integer.valueOf (key2));
+            if (key1 < 0 || key1 >= NUM_COMMANDS || key2 < 0)
+                return false;
 
-            final int [] newValues = new int [1 + data.length];
-            newValues[0] = value;
-            if (data.length > 0)
-                System.arraycopy (data, 0, newValues, 1, data.length);
+            int [] commandValues = this.values[key1];
+            int [] [] commandData = this.data[key1];
+            if (commandValues == null || key2 >= commandValues.length)
+            {
+                final int size = Math.max (MIN_SLOTS, key2 + 1);
+                commandValues = commandValues == null ? new int [size] : Arrays.copyOf (commandValues, size);
+                commandData = commandData == null ? new int [size] [] : Arrays.copyOf (commandData, size);
+                this.values[key1] = commandValues;
+                this.data[key1] = commandData;
+            }
 
-            if (Arrays.equals (values, newValues))
+            final int [] storedData = commandData[key2];
+            if (storedData != null && commandValues[key2] == value && Arrays.equals (storedData, data))
                 return true;
 
-            item.put (Integer.valueOf (key2), newValues);
+            commandValues[key2] = value;
+            if (storedData != null && storedData.length == data.length)
+                System.arraycopy (data, 0, storedData, 0, data.length);
+            else
+                commandData[key2] = data.clone ();
             return false;
         }
     }
-}
\ No newline at end of file
+}
@@ -226,7 +226,7 @@ public class LaunchkeyMk3ControlSurface extends AbstractControlSurface<Launchkey
         {
             final IMode m = this.faderModeManager.getActive ();
             if (m != null)
-                m.updateDisplay ();
+                m.updateDisplayIfChanged ();
         }
     }
 
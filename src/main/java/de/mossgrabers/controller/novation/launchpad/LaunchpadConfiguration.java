@@ -10,6 +10,8 @@ import de.mossgrabers.controller.novation.launchpad.definition.ILaunchpadControl
 import de.mossgrabers.framework.configuration.AbstractConfiguration;
 import de.mossgrabers.framework.configuration.IEnumSetting;
 import de.mossgrabers.framework.configuration.ISettingsUI;
+import de.mossgrabers.framework.controller.grid.VirtualFaderAnimator;
+import de.mossgrabers.framework.controller.grid.VirtualFaderAnimator.Easing;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.ArpeggiatorMode;
@@ -39,6 +41,10 @@ public class LaunchpadConfiguration extends AbstractConfiguration
 
     /** Setting for the brightness of the pad LEDs. */
     public static final Integer    PAD_BRIGHTNESS        = Integer.valueOf (NEXT_SETTING_ID);
+    /** Setting for the delay between two steps of a fader movement. */
+    public static final Integer    FADER_TICK_DELAY      = Integer.valueOf (NEXT_SETTING_ID + 1);
+    /** Setting for the easing of a fader movement. */
+    public static final Integer    FADER_EASING          = Integer.valueOf (NEXT_SETTING_ID + 2);
 
     private static final String [] PAD_BRIGHTNESS_VALUES = new String [128];
     static
@@ -47,8 +53,16 @@ public class LaunchpadConfiguration extends AbstractConfiguration
             PAD_BRIGHTNESS_VALUES[i] = Integer.toString (i);
     }
 
+    private static final String [] FADER_EASING_VALUES   =
+    {
+        "Linear",
+        "Ease out"
+    };
+
     private final ILaunchpadControllerDefinition definition;
     private int                                  padBrightness;
+    private int                                  faderTickDelay = VirtualFaderAnimator.DEFAULT_TICK_DELAY;
+    private Easing                               faderEasing    = Easing.LINEAR;
 
 
     /**
@@ -129,6 +143,7 @@ public class LaunchpadConfiguration extends AbstractConfiguration
         this.activateConvertAftertouchSetting (globalSettings);
         if (!this.definition.getBrightnessSysex ().isEmpty ())
             this.activatePadBrightnessSetting (globalSettings);
+        this.activateFaderSettings (globalSettings);
     }
 
 
@@ -144,6 +159,24 @@ public class LaunchpadConfiguration extends AbstractConfiguration
     }
 
 
+    protected void activateFaderSettings (final ISettingsUI settingsUI)
+    {
+        settingsUI.getRangeSetting ("Fader Step Delay", CATEGORY_PADS, 1, 50, 1, "ms", VirtualFaderAnimator.DEFAULT_TICK_DELAY).addValueObserver (value -> {
+            this.faderTickDelay = value.intValue ();
+            this.notifyObservers (FADER_TICK_DELAY);
+        });
+
+        final IEnumSetting faderEasingSetting = settingsUI.getEnumSetting ("Fader Easing", CATEGORY_PADS, FADER_EASING_VALUES, FADER_EASING_VALUES[0]);
+        faderEasingSetting.addValueObserver (value -> {
+            this.faderEasing = Easing.values ()[lookupIndex (FADER_EASING_VALUES, value)];
+            this.notifyObservers (FADER_EASING);
+        });
+
+        this.isSettingActive.add (FADER_TICK_DELAY);
+        this.isSettingActive.add (FADER_EASING);
+    }
+
+
     /**
      * Get the pad brightness.
      *
@@ -153,4 +186,26 @@ public class LaunchpadConfiguration extends AbstractConfiguration
     {
         return this.padBrightness;
     }
+
+
+    /**
+     * Get the delay between two steps of a fader movement.
+     *
+     * @return The delay in milliseconds
+     */
+    public int getFaderTickDelay ()
+    {
+        return this.faderTickDelay;
+    }
+
+
+    /**
+     * Get the easing of a fader movement.
+     *
+     * @return The easing
+     */
+    public Easing getFaderEasing ()
+    {
+        return this.faderEasing;
+    }
 }
@@ -70,6 +70,7 @@ import de.mossgrabers.framework.controller.AbstractControllerSetup;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.ISetupFactory;
 import de.mossgrabers.framework.controller.OutputID;
+import de.mossgrabers.framework.controller.grid.VirtualFaderAnimator;
 import de.mossgrabers.framework.controller.hardware.BindType;
 import de.mossgrabers.framework.controller.hardware.IHwButton;
 import de.mossgrabers.framework.controller.hardware.IHwLight;
@@ -282,6 +283,10 @@ public class LaunchpadControllerSetup extends AbstractControllerSetup<LaunchpadC
         if (this.configuration.canSettingBeObserved (LaunchpadConfiguration.PAD_BRIGHTNESS))
             this.configuration.addSettingObserver (LaunchpadConfiguration.PAD_BRIGHTNESS, surface::updateBrightness);
 
+        final VirtualFaderAnimator virtualFaderAnimator = surface.getVirtualFaderAnimator ();
+        this.configuration.addSettingObserver (LaunchpadConfiguration.FADER_TICK_DELAY, () -> virtualFaderAnimator.setTickDelay (this.configuration.getFaderTickDelay ()));
+        this.configuration.addSettingObserver (LaunchpadConfiguration.FADER_EASING, () -> virtualFaderAnimator.setEasing (this.configuration.getFaderEasing ()));
+
         this.configuration.registerDeactivatedItemsHandler (this.model);
         this.createScaleObservers (this.configuration);
         this.createNoteRepeatObservers (this.configuration, surface);
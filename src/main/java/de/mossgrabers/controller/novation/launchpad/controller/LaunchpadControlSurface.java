@@ -14,6 +14,7 @@ import de.mossgrabers.framework.controller.AbstractControlSurface;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.IVirtualFader;
+import de.mossgrabers.framework.controller.grid.VirtualFaderAnimator;
 import de.mossgrabers.framework.controller.grid.VirtualFaderImpl;
 import de.mossgrabers.framework.controller.hardware.BindType;
 import de.mossgrabers.framework.controller.hardware.IHwButton;
@@ -80,6 +81,7 @@ public class LaunchpadControlSurface extends AbstractControlSurface<LaunchpadCon
     private final ILaunchpadControllerDefinition definition;
 
     private final IVirtualFader []               virtualFaders               = new IVirtualFader [8];
+    private final VirtualFaderAnimator           virtualFaderAnimator;
 
 
     /**
@@ -98,8 +100,9 @@ public class LaunchpadControlSurface extends AbstractControlSurface<LaunchpadCon
 
         this.definition = definition;
 
+        this.virtualFaderAnimator = new VirtualFaderAnimator (host);
         for (int i = 0; i < this.virtualFaders.length; i++)
-            this.virtualFaders[i] = new VirtualFaderImpl (host, new VirtualFaderViewCallback (i, this.viewManager), this.padGrid, i);
+            this.virtualFaders[i] = new VirtualFaderImpl (this.virtualFaderAnimator, new VirtualFaderViewCallback (i, this.viewManager), this.padGrid, i);
 
         this.input.setSysexCallback (this::handleSysEx);
         this.output.sendSysex (DeviceInquiry.createQuery ());
@@ -218,6 +221,17 @@ public class LaunchpadControlSurface extends AbstractControlSurface<LaunchpadCon
     }
 
 
+    /**
+     * Get the animator which moves all virtual faders of the surface and its views.
+     *
+     * @return The animator
+     */
+    public VirtualFaderAnimator getVirtualFaderAnimator ()
+    {
+        return this.virtualFaderAnimator;
+    }
+
+
     /**
      * Send the current brightness setting to the controller device.
      */
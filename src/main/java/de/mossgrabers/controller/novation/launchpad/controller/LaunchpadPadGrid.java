@@ -6,13 +6,11 @@ package de.mossgrabers.controller.novation.launchpad.controller;
 
 import de.mossgrabers.controller.novation.launchpad.definition.ILaunchpadControllerDefinition;
 import de.mossgrabers.framework.controller.color.ColorManager;
-import de.mossgrabers.framework.controller.grid.LightInfo;
 import de.mossgrabers.framework.controller.grid.PadGridImpl;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.TreeMap;
 
 
 /**
@@ -43,8 +41,16 @@ public class LaunchpadPadGrid extends PadGridImpl
             INVERSE_TRANSLATE_MATRIX.put (Integer.valueOf (TRANSLATE_MATRIX[i]), Integer.valueOf (36 + i));
     }
 
+    private static final int                     NUM_NOTES          = 128;
+
     private final ILaunchpadControllerDefinition definition;
-    private final Map<Integer, LightInfo>        padInfos = new TreeMap<> ();
+
+    // The pending pad states which are sent on the next flush, indexed by the note
+    private final int []                         pendingColors      = new int [NUM_NOTES];
+    private final int []                         pendingBlinkColors = new int [NUM_NOTES];
+    private final boolean []                     pendingFast        = new boolean [NUM_NOTES];
+    private final long []                        pendingNotes       = new long [NUM_NOTES / 64];
+    private final int []                         changedNotes       = new int [NUM_NOTES];
 
 
     /**
@@ -89,13 +95,25 @@ public class LaunchpadPadGrid extends PadGridImpl
      */
     public void flush ()
     {
-        synchronized (this.padInfos)
+        synchronized (this.pendingNotes)
         {
-            if (this.padInfos.isEmpty ())
+            // Collect the changed notes in ascending order
+            int count = 0;
+            for (int i = 0; i < this.pendingNotes.length; i++)
+            {
+                long bits = this.pendingNotes[i];
+                while (bits != 0)
+                {
+                    this.changedNotes[count++] = i * 64 + Long.numberOfTrailingZeros (bits);
+                    bits &= bits - 1;
+                }
+                this.pendingNotes[i] = 0;
+            }
+            if (count == 0)
                 return;
-            for (final String update: this.definition.buildLEDUpdate (this.padInfos))
+
+            for (final byte [] update: this.definition.buildLEDUpdate (this.changedNotes, count, this.pendingColors, this.pendingBlinkColors, this.pendingFast))
                 this.output.sendSysex (update);
-            this.padInfos.clear ();
         }
     }
 
@@ -104,9 +122,10 @@ public class LaunchpadPadGrid extends PadGridImpl
     @Override
     protected void sendNoteState (final int channel, final int note, final int color)
     {
-        synchronized (this.padInfos)
+        synchronized (this.pendingNotes)
         {
-            this.padInfos.computeIfAbsent (Integer.valueOf (note), key -> new LightInfo ()).setColor (color);
+            this.markPending (note);
+            this.pendingColors[note] = color;
         }
     }
 
@@ -115,11 +134,30 @@ public class LaunchpadPadGrid extends PadGridImpl
     @Override
     protected void sendBlinkState (final int channel, final int note, final int blinkColor, final boolean fast)
     {
-        synchronized (this.padInfos)
+        synchronized (this.pendingNotes)
         {
-            final LightInfo info = this.padInfos.computeIfAbsent (Integer.valueOf (note), key -> new LightInfo ());
-            info.setBlinkColor (blinkColor);
-            info.setFast (fast);
+            this.markPending (note);
+            this.pendingBlinkColors[note] = blinkColor;
+            this.pendingFast[note] = fast;
         }
     }
+
+
+    /**
+     * Mark the note as changed. If it was not already changed since the last flush, its state is
+     * reset to off.
+     *
+     * @param note The note of the pad
+     */
+    private void markPending (final int note)
+    {
+        final int index = note / 64;
+        final long bit = 1L << note % 64;
+        if ((this.pendingNotes[index] & bit) != 0)
+            return;
+        this.pendingNotes[index] |= bit;
+        this.pendingColors[note] = 0;
+        this.pendingBlinkColors[note] = 0;
+        this.pendingFast[note] = false;
+    }
 }
\ No newline at end of file
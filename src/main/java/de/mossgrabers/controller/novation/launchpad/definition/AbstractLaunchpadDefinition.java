@@ -8,13 +8,11 @@ import de.mossgrabers.controller.novation.launchpad.controller.LaunchpadControlS
 import de.mossgrabers.controller.novation.launchpad.definition.button.ButtonSetup;
 import de.mossgrabers.controller.novation.launchpad.definition.button.LaunchpadButton;
 import de.mossgrabers.framework.controller.DefaultControllerDefinition;
-import de.mossgrabers.framework.controller.grid.LightInfo;
 import de.mossgrabers.framework.utils.StringUtils;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -28,6 +26,8 @@ public abstract class AbstractLaunchpadDefinition extends DefaultControllerDefin
 {
     protected final ButtonSetup buttonSetup = new ButtonSetup ();
 
+    private byte []             sysExHeaderBytes;
+
 
     /**
      * Constructor.
@@ -111,36 +111,65 @@ public abstract class AbstractLaunchpadDefinition extends DefaultControllerDefin
 
     /** {@inheritDoc} */
     @Override
-    public List<String> buildLEDUpdate (final Map<Integer, LightInfo> padInfos)
+    public List<byte []> buildLEDUpdate (final int [] notes, final int count, final int [] colors, final int [] blinkColors, final boolean [] isFast)
     {
-        final StringBuilder sb = new StringBuilder (this.getSysExHeader ()).append ("03 ");
-        for (final Entry<Integer, LightInfo> e: padInfos.entrySet ())
+        // All pads fit into one message, at most 4 bytes per pad
+        final byte [] data = new byte [count * 4];
+        int length = 0;
+        for (int i = 0; i < count; i++)
         {
-            final int note = e.getKey ().intValue ();
-            final LightInfo info = e.getValue ();
-
-            if (info.getBlinkColor () <= 0)
+            final int note = notes[i];
+            if (blinkColors[note] <= 0)
             {
                 // 00h: Static color from palette, Lighting data is 1 byte specifying palette
                 // entry.
-                sb.append ("00 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+                data[length++] = 0x00;
+                data[length++] = (byte) note;
+                data[length++] = (byte) colors[note];
             }
             else
             {
-                if (info.isFast ())
+                if (isFast[note])
                 {
                     // 01h: Flashing color, Lighting data is 2 bytes specifying Color B and
                     // Color A.
-                    sb.append ("01 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getBlinkColor ())).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+                    data[length++] = 0x01;
+                    data[length++] = (byte) note;
+                    data[length++] = (byte) blinkColors[note];
+                    data[length++] = (byte) colors[note];
                 }
                 else
                 {
                     // 02h: Pulsing color, Lighting data is 1 byte specifying palette entry.
-                    sb.append ("02 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+                    data[length++] = 0x02;
+                    data[length++] = (byte) note;
+                    data[length++] = (byte) colors[note];
                 }
             }
         }
-        return Collections.singletonList (sb.append ("F7").toString ());
+        return Collections.singletonList (this.createSysExMessage (0x03, data, length));
+    }
+
+
+    /**
+     * Create a system exclusive message with the header of the device.
+     *
+     * @param command The command byte which follows the header
+     * @param data The data to append after the command
+     * @param length The number of bytes to use from the data
+     * @return The complete message including the start and end bytes
+     */
+    protected byte [] createSysExMessage (final int command, final byte [] data, final int length)
+    {
+        if (this.sysExHeaderBytes == null)
+            this.sysExHeaderBytes = StringUtils.asBytes (StringUtils.fromHexStr (this.getSysExHeader ().replace (" ", "")));
+
+        final int headerLength = this.sysExHeaderBytes.length;
+        final byte [] message = Arrays.copyOf (this.sysExHeaderBytes, headerLength + 1 + length + 1);
+        message[headerLength] = (byte) command;
+        System.arraycopy (data, 0, message, headerLength + 1, length);
+        message[message.length - 1] = (byte) 0xF7;
+        return message;
     }
 
 
@@ -6,10 +6,8 @@ package de.mossgrabers.controller.novation.launchpad.definition;
 
 import de.mossgrabers.controller.novation.launchpad.controller.LaunchpadControlSurface;
 import de.mossgrabers.controller.novation.launchpad.definition.button.ButtonSetup;
-import de.mossgrabers.framework.controller.grid.LightInfo;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 
@@ -94,12 +92,17 @@ public interface ILaunchpadControllerDefinition
 
 
     /**
-     * Create an update system exclusive string for all given pads.
+     * Create the update system exclusive messages for all given pads.
      *
-     * @param padInfos The info how to update the pads
-     * @return The system exclusive string
+     * @param notes The notes of the pads to update in ascending order
+     * @param count The number of notes to use from the notes array
+     * @param colors The color of each pad, indexed by the note
+     * @param blinkColors The blink color of each pad, indexed by the note, 0 or less for no
+     *            blinking
+     * @param isFast The fast blinking flag of each pad, indexed by the note
+     * @return The complete system exclusive messages
      */
-    List<String> buildLEDUpdate (Map<Integer, LightInfo> padInfos);
+    List<byte []> buildLEDUpdate (int [] notes, int count, int [] colors, int [] blinkColors, boolean [] isFast);
 
 
     /**
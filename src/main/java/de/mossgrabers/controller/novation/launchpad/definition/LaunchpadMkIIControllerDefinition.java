@@ -6,15 +6,11 @@ package de.mossgrabers.controller.novation.launchpad.definition;
 
 import de.mossgrabers.controller.novation.launchpad.controller.LaunchpadControlSurface;
 import de.mossgrabers.controller.novation.launchpad.definition.button.LaunchpadButton;
-import de.mossgrabers.framework.controller.grid.LightInfo;
 import de.mossgrabers.framework.utils.OperatingSystem;
 import de.mossgrabers.framework.utils.Pair;
-import de.mossgrabers.framework.utils.StringUtils;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.UUID;
 
 
@@ -109,37 +105,48 @@ public class LaunchpadMkIIControllerDefinition extends AbstractLaunchpadDefiniti
 
     /** {@inheritDoc} */
     @Override
-    public List<String> buildLEDUpdate (final Map<Integer, LightInfo> padInfos)
+    public List<byte []> buildLEDUpdate (final int [] notes, final int count, final int [] colors, final int [] blinkColors, final boolean [] isFast)
     {
-        final StringBuilder sbNormal = new StringBuilder ();
-        final StringBuilder sbFlash = new StringBuilder ();
-        final StringBuilder sbPulse = new StringBuilder ();
-
-        for (final Entry<Integer, LightInfo> e: padInfos.entrySet ())
+        final byte [] normal = new byte [count * 2];
+        final byte [] flash = new byte [count * 3];
+        final byte [] pulse = new byte [count * 3];
+        int normalLength = 0;
+        int flashLength = 0;
+        int pulseLength = 0;
+
+        for (int i = 0; i < count; i++)
         {
-            final int note = e.getKey ().intValue ();
-            final LightInfo info = e.getValue ();
+            final int note = notes[i];
 
-            sbNormal.append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+            normal[normalLength++] = (byte) note;
+            normal[normalLength++] = (byte) colors[note];
 
-            if (info.getBlinkColor () > 0)
+            final int blinkColor = blinkColors[note];
+            if (blinkColor > 0)
             {
                 // Note: The MkII has an additional prefixed 00 instead of the Pro!
-                if (info.isFast ())
-                    sbFlash.append ("00 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getBlinkColor ())).append (' ');
+                if (isFast[note])
+                {
+                    flash[flashLength++] = 0x00;
+                    flash[flashLength++] = (byte) note;
+                    flash[flashLength++] = (byte) blinkColor;
+                }
                 else
-                    sbPulse.append ("00 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getBlinkColor ())).append (' ');
+                {
+                    pulse[pulseLength++] = 0x00;
+                    pulse[pulseLength++] = (byte) note;
+                    pulse[pulseLength++] = (byte) blinkColor;
+                }
             }
         }
 
-        final List<String> result = new ArrayList<> (3);
-        final String sysExHeader = this.getSysExHeader ();
-        if (sbNormal.length () > 0)
-            result.add (new StringBuilder (sysExHeader).append ("0A ").append (sbNormal).append ("F7").toString ());
-        if (sbFlash.length () > 0)
-            result.add (new StringBuilder (sysExHeader).append ("23 ").append (sbFlash).append ("F7").toString ());
-        if (sbPulse.length () > 0)
-            result.add (new StringBuilder (sysExHeader).append ("28 ").append (sbPulse).append ("F7").toString ());
+        final List<byte []> result = new ArrayList<> (3);
+        if (normalLength > 0)
+            result.add (this.createSysExMessage (0x0A, normal, normalLength));
+        if (flashLength > 0)
+            result.add (this.createSysExMessage (0x23, flash, flashLength));
+        if (pulseLength > 0)
+            result.add (this.createSysExMessage (0x28, pulse, pulseLength));
         return result;
     }
 }
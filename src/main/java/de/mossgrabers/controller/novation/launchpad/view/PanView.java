@@ -41,7 +41,7 @@ public class PanView extends AbstractFaderView implements IVirtualFaderCallback
     {
         super ("Panning", surface, model);
 
-        this.masterFader = new VirtualFaderImpl (model.getHost (), this);
+        this.masterFader = new VirtualFaderImpl (surface.getVirtualFaderAnimator (), this);
     }
 
 
@@ -10,9 +10,14 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.utils.StringUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
 
 /**
- * The displays of SL MkIII.
+ * The displays of SL MkIII. All changed properties (text, color, value) are collected during a
+ * flush and sent at its end with one SysEx message per column, since the protocol allows to set
+ * several properties of a column at once.
  *
  * @author Jürgen Moßgraber
  */
@@ -20,8 +25,20 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
 {
     private static final String  MKIII_SYSEX_HEADER               = "F0 00 20 29 02 0A 01 ";
     private static final String  MKIII_SYSEX_LAYOUT_COMMAND       = MKIII_SYSEX_HEADER + "01 %02d F7";
-    private static final String  MKIII_SYSEX_PROPERTY_COMMAND     = MKIII_SYSEX_HEADER + "02 %02d %02d %02d %s F7";
-    private static final String  MKIII_SYSEX_LED_COMMAND          = MKIII_SYSEX_HEADER + "03 %02X 01 %02X %02X %02X F7";
+
+    private static final byte [] MKIII_SYSEX_HEADER_BYTES         =
+    {
+        (byte) 0xF0,
+        0x00,
+        0x20,
+        0x29,
+        0x02,
+        0x0A,
+        0x01
+    };
+    private static final byte    MKIII_SYSEX_PROPERTY_COMMAND     = 0x02;
+    private static final byte    MKIII_SYSEX_LED_COMMAND          = 0x03;
+    private static final byte    MKIII_SYSEX_END                  = (byte) 0xF7;
 
     private static final String  MKIII_SYSEX_NOTIFICATION_COMMAND = MKIII_SYSEX_HEADER + "04 %s F7";
 
@@ -32,12 +49,24 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
     /** The layout with larger selection boxes. */
     public static final Integer  SCREEN_LAYOUT_BOX                = Integer.valueOf (2);
 
-    private static final Integer PROPERTY_TEXT                    = Integer.valueOf (1);
-    private static final Integer PROPERTY_COLOR                   = Integer.valueOf (2);
-    private static final Integer PROPERTY_VALUE                   = Integer.valueOf (3);
+    private static final int     PROPERTY_TEXT                    = 1;
+    private static final int     PROPERTY_COLOR                   = 2;
+    private static final int     PROPERTY_VALUE                   = 3;
+
+    private static final int     NUM_COLUMNS                      = 9;
+    private static final int     NUM_ROWS                         = 4;
+    private static final int     MAX_TEXT_LENGTH                  = 9;
 
-    private final int [] []      displayColorCache                = new int [9] [4];
-    private final int [] []      displayValueCache                = new int [9] [4];
+    private final int [] []      displayColorCache                = new int [NUM_COLUMNS] [NUM_ROWS];
+    private final int [] []      displayValueCache                = new int [NUM_COLUMNS] [NUM_ROWS];
+    private final String [] []   displayTextCache                 = new String [NUM_COLUMNS] [NUM_ROWS];
+
+    // The properties which have changed since the last flush
+    private final String [] []   pendingTexts                     = new String [NUM_COLUMNS] [NUM_ROWS];
+    private final int [] []      pendingColors                    = new int [NUM_COLUMNS] [NUM_ROWS];
+    private final int [] []      pendingValues                    = new int [NUM_COLUMNS] [NUM_ROWS];
+    private final boolean []     pendingColumns                   = new boolean [NUM_COLUMNS];
+    private final byte []        messageBuffer                    = new byte [MKIII_SYSEX_HEADER_BYTES.length + 3 + NUM_ROWS * (3 * 3 + MAX_TEXT_LENGTH + 1)];
 
     private int                  selectedLayout                   = -1;
 
@@ -53,6 +82,21 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
         super (host, output, 4 /* No of rows */, 9 /* No of cells */, 9 * 9 /* No of characters */);
 
         this.clearDisplayCache ();
+        for (int i = 0; i < NUM_COLUMNS; i++)
+        {
+            Arrays.fill (this.pendingColors[i], -1);
+            Arrays.fill (this.pendingValues[i], -1);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void flush ()
+    {
+        super.flush ();
+
+        this.sendPendingProperties ();
     }
 
 
@@ -108,7 +152,16 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
     public void setFaderLEDColor (final int led, final ColorEx color)
     {
         final int [] rgb = color.toIntRGB127 ();
-        this.output.sendSysex (String.format (MKIII_SYSEX_LED_COMMAND, Integer.valueOf (led), Integer.valueOf (rgb[0]), Integer.valueOf (rgb[1]), Integer.valueOf (rgb[2])));
+        final byte [] message = Arrays.copyOf (MKIII_SYSEX_HEADER_BYTES, MKIII_SYSEX_HEADER_BYTES.length + 7);
+        int pos = MKIII_SYSEX_HEADER_BYTES.length;
+        message[pos++] = MKIII_SYSEX_LED_COMMAND;
+        message[pos++] = (byte) led;
+        message[pos++] = 0x01;
+        message[pos++] = (byte) rgb[0];
+        message[pos++] = (byte) rgb[1];
+        message[pos++] = (byte) rgb[2];
+        message[pos] = MKIII_SYSEX_END;
+        this.output.sendSysex (message);
     }
 
 
@@ -125,7 +178,8 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
             return;
         this.displayColorCache[hPosition][vPosition] = color;
 
-        this.setProperty (PROPERTY_COLOR, hPosition, vPosition, StringUtils.toHexStr (color));
+        this.pendingColors[hPosition][vPosition] = color;
+        this.pendingColumns[hPosition] = true;
     }
 
 
@@ -140,10 +194,14 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
     private void setPropertyText (final int hPosition, final int vPosition, final String text)
     {
         String ascii = StringUtils.fixASCII (text);
-        if (ascii.length () > 9)
-            ascii = ascii.substring (0, 9);
-        final String value = StringUtils.toHexStr (ascii.getBytes ()) + "00";
-        this.setProperty (PROPERTY_TEXT, hPosition, vPosition, value);
+        if (ascii.length () > MAX_TEXT_LENGTH)
+            ascii = ascii.substring (0, MAX_TEXT_LENGTH);
+        if (ascii.equals (this.displayTextCache[hPosition][vPosition]))
+            return;
+        this.displayTextCache[hPosition][vPosition] = ascii;
+
+        this.pendingTexts[hPosition][vPosition] = ascii;
+        this.pendingColumns[hPosition] = true;
     }
 
 
@@ -160,22 +218,65 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
             return;
         this.displayValueCache[hPosition][vPosition] = value;
 
-        this.setProperty (PROPERTY_VALUE, hPosition, vPosition, StringUtils.toHexStr (value));
+        this.pendingValues[hPosition][vPosition] = value;
+        this.pendingColumns[hPosition] = true;
     }
 
 
     /**
-     * Set a display property.
-     *
-     * @param property The property: PROPERTY_TEXT, PROPERTY_COLOR or PROPERTY_VALUE
-     * @param hPosition The horizontal position (0-8)
-     * @param vPosition The vertical position (0-5)
-     * @param values The formatted values to insert
+     * Send all properties which have changed since the last flush. All properties of one column
+     * are combined into one SysEx message.
      */
-    private void setProperty (final Integer property, final int hPosition, final int vPosition, final String values)
+    private void sendPendingProperties ()
     {
-        final String msg = String.format (MKIII_SYSEX_PROPERTY_COMMAND, Integer.valueOf (hPosition), property, Integer.valueOf (vPosition), values);
-        this.output.sendSysex (msg);
+        for (int column = 0; column < NUM_COLUMNS; column++)
+        {
+            if (!this.pendingColumns[column])
+                continue;
+            this.pendingColumns[column] = false;
+
+            final byte [] message = this.messageBuffer;
+            System.arraycopy (MKIII_SYSEX_HEADER_BYTES, 0, message, 0, MKIII_SYSEX_HEADER_BYTES.length);
+            int pos = MKIII_SYSEX_HEADER_BYTES.length;
+            message[pos++] = MKIII_SYSEX_PROPERTY_COMMAND;
+            message[pos++] = (byte) column;
+
+            for (int row = 0; row < NUM_ROWS; row++)
+            {
+                final String text = this.pendingTexts[column][row];
+                if (text != null)
+                {
+                    this.pendingTexts[column][row] = null;
+                    message[pos++] = PROPERTY_TEXT;
+                    message[pos++] = (byte) row;
+                    final byte [] bytes = text.getBytes (StandardCharsets.US_ASCII);
+                    System.arraycopy (bytes, 0, message, pos, bytes.length);
+                    pos += bytes.length;
+                    message[pos++] = 0x00;
+                }
+
+                final int color = this.pendingColors[column][row];
+                if (color >= 0)
+                {
+                    this.pendingColors[column][row] = -1;
+                    message[pos++] = PROPERTY_COLOR;
+                    message[pos++] = (byte) row;
+                    message[pos++] = (byte) color;
+                }
+
+                final int value = this.pendingValues[column][row];
+                if (value >= 0)
+                {
+                    this.pendingValues[column][row] = -1;
+                    message[pos++] = PROPERTY_VALUE;
+                    message[pos++] = (byte) row;
+                    message[pos++] = (byte) value;
+                }
+            }
+
+            message[pos++] = MKIII_SYSEX_END;
+            this.output.sendSysex (Arrays.copyOf (message, pos));
+        }
     }
 
 
@@ -205,16 +306,17 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
 
 
     /**
-     * Clear the cache of the display colors and values.
+     * Clear the cache of the display texts, colors and values.
      */
     private void clearDisplayCache ()
     {
-        for (int i = 0; i < 9; i++)
+        for (int i = 0; i < NUM_COLUMNS; i++)
         {
-            for (int j = 0; j < 4; j++)
+            for (int j = 0; j < NUM_ROWS; j++)
             {
                 this.displayColorCache[i][j] = -1;
                 this.displayValueCache[i][j] = -1;
+                this.displayTextCache[i][j] = null;
             }
         }
     }
@@ -11,6 +11,7 @@ import java.util.List;
 import de.mossgrabers.controller.osc.module.ActionModule;
 import de.mossgrabers.controller.osc.module.BrowserModule;
 import de.mossgrabers.controller.osc.module.ClipModule;
+import de.mossgrabers.controller.osc.module.ClientModule;
 import de.mossgrabers.controller.osc.module.DeviceModule;
 import de.mossgrabers.controller.osc.module.GlobalModule;
 import de.mossgrabers.controller.osc.module.IModule;
@@ -193,7 +194,7 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
         final int sendPort = this.configuration.getSendPort ();
         this.host.println (String.format ("Connecting to OSC server %s:%d", sendHost, Integer.valueOf (sendPort)));
         final IOpenSoundControlClient oscClient = this.host.connectToOSCServer (sendHost, sendPort);
-        this.writer = new OSCWriter (this.host, this.model, oscClient, this.configuration);
+        this.writer = new OSCWriter (this.host, this.model, oscClient, sendHost + ":" + sendPort, this.configuration);
 
         // Receive OSC messages
         final OSCParser parser = new OSCParser (this.host, surface, this.model, this.configuration, this.writer, input, this.keyManager);
@@ -211,6 +212,7 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
         modules.add (new MidiModule (this.host, this.model, surface, this.writer, this.keyManager));
         modules.add (new ActionModule (this.host, this.model, this.writer, this.configuration));
         modules.add (new ClipModule (this.host, this.model, this.writer));
+        modules.add (new ClientModule (this.host, this.model, this.writer));
 
         modules.forEach (module -> {
             this.writer.registerModule (module);
@@ -128,6 +128,9 @@ public class BrowserModule extends AbstractModule
     public void flush (final boolean dump)
     {
         final String browserAddress = "/browser/";
+        if (!this.writer.isSubscribed (browserAddress))
+            return;
+
         final IBrowser browser = this.model.getBrowser ();
 
         final boolean isActive = browser.isActive ();
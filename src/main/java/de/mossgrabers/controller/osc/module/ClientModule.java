@@ -0,0 +1,108 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2026
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.osc.module;
+
+import de.mossgrabers.controller.osc.exception.IllegalParameterException;
+import de.mossgrabers.controller.osc.exception.MissingCommandException;
+import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCWriter;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.osc.OpenSoundControlSubscriber;
+
+import java.util.LinkedList;
+import java.util.Optional;
+
+
+/**
+ * Commands to register additional clients and to manage the address patterns to which the clients
+ * are subscribed. A client is identified by 'host:port'. The first parameter of all commands is the
+ * client, the following parameters of subscribe and unsubscribe are the address patterns, e.g.
+ * '/track/*&#47;volume'.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class ClientModule extends AbstractModule
+{
+    private final OSCWriter oscWriter;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param model The model
+     * @param writer The writer
+     */
+    public ClientModule (final IHost host, final IModel model, final OSCWriter writer)
+    {
+        super (host, model, writer);
+
+        this.oscWriter = writer;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String [] getSupportedCommands ()
+    {
+        return new String []
+        {
+            "client"
+        };
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    {
+        if (!"client".equals (command))
+            throw new UnknownCommandException (command);
+
+        final Object [] values = value instanceof final Object [] array ? array : new Object [] { value };
+        final String clientName = toString (values[0]);
+
+        final String subCommand = getSubCommand (path);
+        switch (subCommand)
+        {
+            case "add":
+                final int pos = clientName.lastIndexOf (':');
+                if (pos <= 0)
+                    throw new IllegalParameterException ("Client must be 'host:port'");
+                try
+                {
+                    this.oscWriter.addClient (clientName.substring (0, pos), Integer.parseInt (clientName.substring (pos + 1)));
+                }
+                catch (final NumberFormatException ex)
+                {
+                    throw new IllegalParameterException ("Port is not a number");
+                }
+                break;
+
+            case "remove":
+                this.oscWriter.removeSubscriber (clientName);
+                break;
+
+            case "subscribe", "unsubscribe":
+                final Optional<OpenSoundControlSubscriber> subscriber = this.oscWriter.getSubscriber (clientName);
+                if (subscriber.isEmpty ())
+                    throw new IllegalParameterException ("Unknown client: " + clientName);
+                if (values.length < 2)
+                    throw new IllegalParameterException ("Address pattern missing");
+                for (int i = 1; i < values.length; i++)
+                {
+                    if ("subscribe".equals (subCommand))
+                        subscriber.get ().subscribe (toString (values[i]));
+                    else
+                        subscriber.get ().unsubscribe (toString (values[i]));
+                }
+                break;
+
+            default:
+                throw new UnknownCommandException (subCommand);
+        }
+    }
+}
@@ -85,10 +85,13 @@ public class MidiModule extends AbstractModule
     public void flush (final boolean dump)
     {
         final String noteAddress = "/vkb_midi/note/";
-        for (int i = 0; i < 127; i++)
+        if (this.writer.isSubscribed (noteAddress))
         {
-            final double [] color = this.getNoteColor (i).toDoubleRGB ();
-            this.writer.sendOSCColor (noteAddress + i + "/color", color[0], color[1], color[2], dump);
+            for (int i = 0; i < 127; i++)
+            {
+                final double [] color = this.getNoteColor (i).toDoubleRGB ();
+                this.writer.sendOSCColor (noteAddress + i + "/color", color[0], color[1], color[2], dump);
+            }
         }
 
         // Flush note repeat
@@ -97,6 +100,8 @@ public class MidiModule extends AbstractModule
             return;
         final INoteRepeat noteRepeat = noteInput.getNoteRepeat ();
         final String noteRepeatAddress = "/vkb_midi/noterepeat/";
+        if (!this.writer.isSubscribed (noteRepeatAddress))
+            return;
 
         this.writer.sendOSC (noteRepeatAddress + "isActive", noteRepeat.isActive (), dump);
         this.writer.sendOSC (noteRepeatAddress + "period", Resolution.getNameAt (Resolution.getMatch (noteRepeat.getPeriod ())), dump);
@@ -196,6 +196,9 @@ public class ProjectModule extends AbstractModule
     @Override
     public void flush (final boolean dump)
     {
+        if (!this.writer.isSubscribed ("/project/"))
+            return;
+
         this.writer.sendOSC ("/project/name", this.model.getProject ().getName (), dump);
         this.writer.sendOSC ("/project/engine", this.model.getApplication ().isEngineActive (), dump);
 
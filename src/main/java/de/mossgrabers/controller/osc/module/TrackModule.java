@@ -114,12 +114,17 @@ public class TrackModule extends AbstractModule
         // Flush track parameters
         final String paramAddress = "/track/param/";
         final IParameterBank parameterBank = this.model.getCursorTrack ().getParameterBank ();
-        for (int i = 0; i < parameterBank.getPageSize (); i++)
+        if (this.writer.isSubscribed (paramAddress))
         {
-            final int oneplus = i + 1;
-            this.flushParameterData (this.writer, paramAddress + oneplus + "/", parameterBank.getItem (i), dump);
+            for (int i = 0; i < parameterBank.getPageSize (); i++)
+            {
+                final int oneplus = i + 1;
+                this.flushParameterData (this.writer, paramAddress + oneplus + "/", parameterBank.getItem (i), dump);
+            }
         }
 
+        if (!this.writer.isSubscribed ("/track/page/"))
+            return;
         final IParameterPageBank parameterPageBank = parameterBank.getPageBank ();
         final int selectedParameterPage = parameterPageBank.getSelectedItemIndex ();
         for (int i = 0; i < parameterPageBank.getPageSize (); i++)
@@ -147,6 +152,9 @@ public class TrackModule extends AbstractModule
      */
     private void flushTrack (final IOpenSoundControlWriter writer, final String trackAddress, final ITrack track, final boolean dump)
     {
+        if (!writer.isSubscribed (trackAddress))
+            return;
+
         writer.sendOSC (trackAddress + TAG_EXISTS, track.doesExist (), dump);
         final ChannelType type = track.getType ();
         writer.sendOSC (trackAddress + "type", type == null ? null : type.name ().toLowerCase (Locale.US), dump);
@@ -23,6 +23,9 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 
 /**
@@ -32,8 +35,16 @@ import java.util.Map;
  */
 public class OSCParser extends AbstractOpenSoundControlParser
 {
-    private final OSCControlSurface    surface;
-    private final Map<String, IModule> modules = new HashMap<> ();
+    /**
+     * The last parts of the addresses of continuous values. If several messages for such an
+     * address arrive before they are applied, only the latest one is executed.
+     */
+    private static final Set<String>                    COALESCED_COMMANDS = Set.of ("volume", "pan", "value", "raw", "crossfade");
+
+    private final OSCControlSurface                     surface;
+    private final Map<String, IModule>                  modules            = new HashMap<> ();
+    private final Map<String, IOpenSoundControlMessage> pendingValues      = new ConcurrentHashMap<> ();
+    private final AtomicBoolean                         isApplyScheduled   = new AtomicBoolean ();
 
 
     /**
@@ -64,6 +75,43 @@ public class OSCParser extends AbstractOpenSoundControlParser
     {
         this.logMessage (message);
 
+        if (isCoalesced (message))
+        {
+            // Replaces a value which was not yet applied
+            this.pendingValues.put (message.getAddress (), message);
+            if (this.isApplyScheduled.compareAndSet (false, true))
+                this.host.scheduleTask (this::applyPendingValues, 0);
+            return;
+        }
+
+        // Triggers must not overtake value changes which were received before
+        this.applyPendingValues ();
+        this.execute (message);
+    }
+
+
+    /**
+     * Execute the latest pending message of all addresses with continuous values.
+     */
+    private void applyPendingValues ()
+    {
+        this.isApplyScheduled.set (false);
+        for (final String address: this.pendingValues.keySet ())
+        {
+            final IOpenSoundControlMessage message = this.pendingValues.remove (address);
+            if (message != null)
+                this.execute (message);
+        }
+    }
+
+
+    /**
+     * Execute the command of the message.
+     *
+     * @param message The message
+     */
+    private void execute (final IOpenSoundControlMessage message)
+    {
         final LinkedList<String> oscParts = parseAddress (message);
         if (oscParts.isEmpty ())
             return;
@@ -101,6 +149,23 @@ public class OSCParser extends AbstractOpenSoundControlParser
     }
 
 
+    /**
+     * Test if the message sets a continuous value, which means that it has exactly one numeric
+     * value and its address ends with one of the coalesced commands.
+     *
+     * @param message The message
+     * @return True if only the latest message of the address needs to be executed
+     */
+    private static boolean isCoalesced (final IOpenSoundControlMessage message)
+    {
+        final Object [] values = message.getValues ();
+        if (values == null || values.length != 1 || !(values[0] instanceof Number))
+            return false;
+        final String address = message.getAddress ();
+        return COALESCED_COMMANDS.contains (address.substring (address.lastIndexOf ('/') + 1));
+    }
+
+
     /**
      * Parses the OSC message into separate parts.
      *
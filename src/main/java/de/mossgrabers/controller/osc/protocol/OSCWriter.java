@@ -10,10 +10,12 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.osc.AbstractOpenSoundControlWriter;
 import de.mossgrabers.framework.osc.IOpenSoundControlClient;
+import de.mossgrabers.framework.osc.OpenSoundControlSubscriber;
 
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 
@@ -41,12 +43,33 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
      *
      * @param host The host
      * @param model The model
-     * @param oscClient The OSC client to write to
+     * @param oscClient The OSC client to write to, it is subscribed to all addresses
+     * @param clientName The name of the client, e.g. 'host:port'
      * @param configuration The configuration
      */
-    public OSCWriter (final IHost host, final IModel model, final IOpenSoundControlClient oscClient, final OSCConfiguration configuration)
+    public OSCWriter (final IHost host, final IModel model, final IOpenSoundControlClient oscClient, final String clientName, final OSCConfiguration configuration)
     {
-        super (host, model, oscClient, configuration);
+        super (host, model, oscClient, clientName, configuration);
+    }
+
+
+    /**
+     * Connect to an additional client. The client does not receive any messages until it
+     * subscribes to addresses.
+     *
+     * @param clientHost The host of the client
+     * @param clientPort The port of the client
+     * @return The subscriber of the client
+     */
+    public OpenSoundControlSubscriber addClient (final String clientHost, final int clientPort)
+    {
+        final String name = clientHost + ":" + clientPort;
+        final Optional<OpenSoundControlSubscriber> existing = this.getSubscriber (name);
+        if (existing.isPresent ())
+            return existing.get ();
+
+        this.host.println (String.format ("Connecting to OSC server %s:%d", clientHost, Integer.valueOf (clientPort)));
+        return this.addSubscriber (name, this.host.connectToOSCServer (clientHost, clientPort));
     }
 
 
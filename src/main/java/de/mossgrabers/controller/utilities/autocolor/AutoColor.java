@@ -7,8 +7,6 @@ package de.mossgrabers.controller.utilities.autocolor;
 import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.List;
-import java.util.Map.Entry;
-import java.util.regex.Pattern;
 
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.DAWColor;
@@ -21,16 +19,27 @@ import de.mossgrabers.framework.daw.data.bank.ITrackBank;
  * Extension for auto coloring tracks. In the settings of the script you can set a search string for
  * each color. E.g. if you write 'Bass' after the color red all tracks, which contain the word
  * 'Bass' in their name will automatically be colored in red. For multiple search strings use a
- * comma, e.g. I put 'Drum,BD,Snare,HiHat,Crash' after blue.
+ * comma, e.g. I put 'Drum,BD,Snare,HiHat,Crash' after blue. The search is case-insensitive. If
+ * several colors match, the first one in the list of colors is used.
  *
  * @author Jürgen Moßgraber
  */
 public class AutoColor
 {
-    private final EnumMap<DAWColor, List<Pattern>> colorRegex = new EnumMap<> (DAWColor.class);
-    private final AutoColorConfiguration           configuration;
-    private ITrackBank                             trackBank;
-    private final IHost                            host;
+    private static final DAWColor []              COLORS        = DAWColor.values ();
+    /** The delay before a color is applied to allow Undo. */
+    private static final int                      COLOR_DELAY   = 500;
+    /** The delay after scrolling to the next page, needs to be longer than the color delay. */
+    private static final int                      PAGE_DELAY    = COLOR_DELAY + 100;
+    /** The number of tracks to check in one scheduled task while scanning all tracks. */
+    private static final int                      BATCH_SIZE    = 10;
+
+    private final EnumMap<DAWColor, List<String>> colorKeywords = new EnumMap<> (DAWColor.class);
+    private final AutoColorConfiguration          configuration;
+    private ITrackBank                            trackBank;
+    private final IHost                           host;
+    private volatile KeywordMatcher               matcher       = new KeywordMatcher (List.of ());
+    private int                                   scanID;
 
 
     /**
@@ -57,18 +66,30 @@ public class AutoColor
         if (!this.configuration.isEnableAutoColor ())
             return;
 
-        final List<Pattern> patterns = new ArrayList<> ();
-        if (filter != null && !filter.trim ().isEmpty ())
+        final List<String> keywords = new ArrayList<> ();
+        if (filter != null)
         {
             for (final String part: filter.split (","))
-                patterns.add (Pattern.compile (".*" + Pattern.quote (part.trim ()) + ".*"));
+            {
+                final String keyword = part.trim ();
+                if (!keyword.isEmpty ())
+                    keywords.add (keyword);
+            }
         }
-        synchronized (this.colorRegex)
+
+        synchronized (this.colorKeywords)
         {
-            this.colorRegex.put (color, patterns);
-            if (!patterns.isEmpty ())
-                this.updateTracks (color, patterns);
+            this.colorKeywords.put (color, keywords);
+
+            // Compile all keywords into one matcher, the ID of a keyword is the index of its color
+            final List<List<String>> allKeywords = new ArrayList<> (COLORS.length);
+            for (final DAWColor c: COLORS)
+                allKeywords.add (this.colorKeywords.getOrDefault (c, List.of ()));
+            this.matcher = new KeywordMatcher (allKeywords);
         }
+
+        if (!keywords.isEmpty ())
+            this.updateTracks ();
     }
 
 
@@ -86,66 +107,108 @@ public class AutoColor
 
 
     /**
-     * Updates all tracks (in the page) for a color.
+     * Updates all tracks of the current page or of the whole project, depending on the
+     * configuration. The whole project is scanned page by page in small batches to not block the
+     * control thread.
+     */
+    public void updateTracks ()
+    {
+        if (!this.configuration.isEnableAutoColor ())
+            return;
+
+        // Cancels a running scan
+        this.scanID++;
+
+        if (this.configuration.isScanAllTracks ())
+            this.scanPage (this.scanID, 0);
+        else
+            this.scanBatch (this.scanID, -1, 0);
+    }
+
+
+    /**
+     * Scroll the track bank to the next page to scan.
      *
-     * @param color The color to match for
-     * @param patterns The patterns to match
+     * @param id The ID of the scan
+     * @param position The position of the first track of the page
      */
-    private void updateTracks (final DAWColor color, final List<Pattern> patterns)
+    private void scanPage (final int id, final int position)
     {
-        for (int i = 0; i < this.trackBank.getPageSize (); i++)
-        {
-            final ITrack track = this.trackBank.getItem (i);
-            this.matchColorToTrack (track, track.getName (), color, patterns);
-        }
+        if (id != this.scanID)
+            return;
+        this.trackBank.scrollTo (position, false);
+        // Give the track names some time to arrive
+        this.host.scheduleTask ( () -> this.scanBatch (id, position, 0), PAGE_DELAY);
     }
 
 
     /**
-     * Tests a track against all color patterns.
+     * Check a number of tracks of the current page and schedule the next batch or page.
      *
-     * @param track The track to test
-     * @param trackName The name of the track (the track name of the track might not yet been
-     *            updated)
+     * @param id The ID of the scan
+     * @param position The position of the first track of the page, -1 if only the current page
+     *            should be scanned
+     * @param start The index of the first track on the page to check
      */
-    private void matchColorsToTrack (final ITrack track, final String trackName)
+    private void scanBatch (final int id, final int position, final int start)
     {
-        synchronized (this.colorRegex)
+        if (id != this.scanID)
+            return;
+
+        final int pageSize = this.trackBank.getPageSize ();
+        final int end = Math.min (start + BATCH_SIZE, pageSize);
+        for (int i = start; i < end; i++)
+        {
+            final ITrack track = this.trackBank.getItem (i);
+            if (track.doesExist ())
+                this.matchColorsToTrack (track, track.getName ());
+        }
+
+        if (end < pageSize)
+        {
+            this.host.scheduleTask ( () -> this.scanBatch (id, position, end), 0);
+            return;
+        }
+
+        if (position < 0)
+            return;
+
+        final int nextPosition = position + pageSize;
+        if (nextPosition < this.trackBank.getItemCount ())
+            this.scanPage (id, nextPosition);
+        else if (position > 0)
         {
-            for (final Entry<DAWColor, List<Pattern>> e: this.colorRegex.entrySet ())
-                this.matchColorToTrack (track, trackName, e.getKey (), e.getValue ());
+            // Scroll back after all color changes have been applied
+            this.host.scheduleTask ( () -> {
+                if (id == this.scanID)
+                    this.trackBank.scrollTo (0, false);
+            }, PAGE_DELAY);
         }
     }
 
 
     /**
-     * Tests a track for all given patterns and assigns the given color if it matches one of the
-     * patterns.
+     * Tests a track against all color keywords and assigns the color of the first matching one.
      *
      * @param track The track to test
      * @param trackName The name of the track (the track name of the track might not yet been
      *            updated)
-     * @param color The color to apply
-     * @param patterns The pattern to test against
      */
-    private void matchColorToTrack (final ITrack track, final String trackName, final DAWColor color, final List<Pattern> patterns)
+    private void matchColorsToTrack (final ITrack track, final String trackName)
     {
-        for (final Pattern pattern: patterns)
+        final int colorIndex = this.matcher.match (trackName);
+        if (colorIndex == KeywordMatcher.NO_MATCH)
+            return;
+
+        final ColorEx currentColor = track.getColor ();
+        final ColorEx newColor = COLORS[colorIndex].getColor ();
+        if (!currentColor.equals (newColor))
         {
-            if (pattern.matcher (trackName).matches ())
-            {
-                final ColorEx currentColor = track.getColor ();
-                final ColorEx newColor = color.getColor ();
-                if (!currentColor.equals (newColor))
-                {
-                    // Delay the color change and check the name again to allow Undo
-                    this.host.scheduleTask ( () -> {
-                        if (trackName.equals (track.getName ()))
-                            track.setColor (newColor);
-                    }, 500);
-                }
-                break;
-            }
+            // Delay the color change and check the name again to allow Undo
+            this.host.scheduleTask ( () -> {
+                if (trackName.equals (track.getName ()))
+                    track.setColor (newColor);
+            }, COLOR_DELAY);
         }
     }
 
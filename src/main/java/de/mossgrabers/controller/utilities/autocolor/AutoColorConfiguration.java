@@ -27,10 +27,13 @@ public class AutoColorConfiguration extends AbstractConfiguration
 
     /** ID for dis-/enabling the auto color setting. */
     public static final Integer         ENABLE_AUTO_COLOR   = Integer.valueOf (NEXT_SETTING_ID);
+    /** ID for dis-/enabling the scanning of all tracks of the project setting. */
+    public static final Integer         SCAN_ALL_TRACKS     = Integer.valueOf (NEXT_SETTING_ID + 1);
     /** First ID for all auto color settings. NOTE: All colors increase from that value! */
-    public static final Integer         COLOR_REGEX         = Integer.valueOf (NEXT_SETTING_ID + 1);
+    public static final Integer         COLOR_REGEX         = Integer.valueOf (NEXT_SETTING_ID + 2);
 
     private boolean                     enableAutoColor;
+    private boolean                     scanAllTracks;
     private final Map<DAWColor, String> colorRegEx          = new EnumMap<> (DAWColor.class);
 
 
@@ -60,6 +63,13 @@ public class AutoColorConfiguration extends AbstractConfiguration
         });
         this.isSettingActive.add (ENABLE_AUTO_COLOR);
 
+        final IEnumSetting scanAllTracksSetting = globalSettings.getEnumSetting ("Scan all tracks", CATEGORY_AUTO_COLOR, ON_OFF_OPTIONS, ON_OFF_OPTIONS[0]);
+        scanAllTracksSetting.addValueObserver (value -> {
+            this.scanAllTracks = ON_OFF_OPTIONS[1].equals (value);
+            this.notifyObservers (SCAN_ALL_TRACKS);
+        });
+        this.isSettingActive.add (SCAN_ALL_TRACKS);
+
         final DAWColor [] colors = DAWColor.values ();
         for (int i = 0; i < colors.length; i++)
         {
@@ -87,6 +97,18 @@ public class AutoColorConfiguration extends AbstractConfiguration
     }
 
 
+    /**
+     * Returns true if all tracks of the project should be checked when the color settings change,
+     * otherwise only the tracks of the current page are checked.
+     *
+     * @return True if all tracks should be scanned
+     */
+    public boolean isScanAllTracks ()
+    {
+        return this.scanAllTracks;
+    }
+
+
     /**
      * Get the regular expression value for the given color.
      *
@@ -103,12 +103,10 @@ public class AutoColorSetup extends AbstractControllerSetup<IControlSurface<Auto
         super.createObservers ();
 
         // Update track colors if Auto Color is enabled in the settings
-        this.configuration.addSettingObserver (AutoColorConfiguration.ENABLE_AUTO_COLOR, () -> {
-            if (!this.configuration.isEnableAutoColor ())
-                return;
-            final ITrackBank tb = this.model.getTrackBank ();
-            for (int i = 0; i < tb.getPageSize (); i++)
-                this.autoColor.matchTrackName (i, tb.getItem (i).getName ());
+        this.configuration.addSettingObserver (AutoColorConfiguration.ENABLE_AUTO_COLOR, this.autoColor::updateTracks);
+        this.configuration.addSettingObserver (AutoColorConfiguration.SCAN_ALL_TRACKS, () -> {
+            if (this.configuration.isScanAllTracks ())
+                this.autoColor.updateTracks ();
         });
 
         // Monitor all color regular expression settings
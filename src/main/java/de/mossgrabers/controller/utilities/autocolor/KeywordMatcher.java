@@ -0,0 +1,161 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2026
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.utilities.autocolor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+
+/**
+ * Case-insensitive multi keyword matcher (Aho-Corasick automaton). All keywords are compiled into a
+ * single automaton which finds the matching keyword with the lowest ID in one pass over a text. The
+ * matcher is immutable after construction.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class KeywordMatcher
+{
+    /** Result if no keyword matches. */
+    public static final int NO_MATCH = -1;
+
+    private final char [][] edgeCharacters;
+    private final int [][]  edgeTargets;
+    private final int []    failure;
+    private final int []    output;
+    private final boolean   isEmpty;
+
+
+    /**
+     * Constructor.
+     *
+     * @param keywords The keywords for each ID, the ID is the index in the list. Empty keywords are
+     *            ignored.
+     */
+    public KeywordMatcher (final List<List<String>> keywords)
+    {
+        // Build the trie
+        final List<Map<Character, Integer>> children = new ArrayList<> ();
+        final List<Integer> outputs = new ArrayList<> ();
+        children.add (new TreeMap<> ());
+        outputs.add (Integer.valueOf (Integer.MAX_VALUE));
+
+        for (int id = 0; id < keywords.size (); id++)
+        {
+            for (final String keyword: keywords.get (id))
+            {
+                if (keyword.isEmpty ())
+                    continue;
+
+                int state = 0;
+                for (int i = 0; i < keyword.length (); i++)
+                {
+                    final Character c = Character.valueOf (Character.toLowerCase (keyword.charAt (i)));
+                    Integer next = children.get (state).get (c);
+                    if (next == null)
+                    {
+                        next = Integer.valueOf (children.size ());
+                        children.get (state).put (c, next);
+                        children.add (new TreeMap<> ());
+                        outputs.add (Integer.valueOf (Integer.MAX_VALUE));
+                    }
+                    state = next.intValue ();
+                }
+                outputs.set (state, Integer.valueOf (Math.min (outputs.get (state).intValue (), id)));
+            }
+        }
+
+        // Compile into arrays with sorted edges for the binary search
+        final int numStates = children.size ();
+        this.edgeCharacters = new char [numStates][];
+        this.edgeTargets = new int [numStates][];
+        this.failure = new int [numStates];
+        this.output = new int [numStates];
+        for (int state = 0; state < numStates; state++)
+        {
+            final Map<Character, Integer> edges = children.get (state);
+            this.edgeCharacters[state] = new char [edges.size ()];
+            this.edgeTargets[state] = new int [edges.size ()];
+            int index = 0;
+            for (final Map.Entry<Character, Integer> edge: edges.entrySet ())
+            {
+                this.edgeCharacters[state][index] = edge.getKey ().charValue ();
+                this.edgeTargets[state][index] = edge.getValue ().intValue ();
+                index++;
+            }
+            this.output[state] = outputs.get (state).intValue ();
+        }
+        this.isEmpty = numStates == 1;
+
+        // Calculate the failure links in breadth-first order and merge the outputs of the suffixes
+        final Deque<Integer> queue = new ArrayDeque<> ();
+        for (final int target: this.edgeTargets[0])
+            queue.add (Integer.valueOf (target));
+        while (!queue.isEmpty ())
+        {
+            final int state = queue.remove ().intValue ();
+            for (int i = 0; i < this.edgeCharacters[state].length; i++)
+            {
+                final char c = this.edgeCharacters[state][i];
+                final int target = this.edgeTargets[state][i];
+
+                int fail = this.failure[state];
+                int next = this.getTarget (fail, c);
+                while (next < 0 && fail != 0)
+                {
+                    fail = this.failure[fail];
+                    next = this.getTarget (fail, c);
+                }
+                this.failure[target] = next < 0 ? 0 : next;
+                this.output[target] = Math.min (this.output[target], this.output[this.failure[target]]);
+                queue.add (Integer.valueOf (target));
+            }
+        }
+    }
+
+
+    /**
+     * Find the keyword with the lowest ID which is contained in the given text.
+     *
+     * @param text The text to search
+     * @return The ID of the keyword or NO_MATCH
+     */
+    public int match (final String text)
+    {
+        if (this.isEmpty)
+            return NO_MATCH;
+
+        int best = Integer.MAX_VALUE;
+        int state = 0;
+        for (int i = 0; i < text.length (); i++)
+        {
+            final char c = Character.toLowerCase (text.charAt (i));
+            int next = this.getTarget (state, c);
+            while (next < 0 && state != 0)
+            {
+                state = this.failure[state];
+                next = this.getTarget (state, c);
+            }
+            state = next < 0 ? 0 : next;
+
+            best = Math.min (best, this.output[state]);
+            // Nothing better can be found
+            if (best == 0)
+                break;
+        }
+        return best == Integer.MAX_VALUE ? NO_MATCH : best;
+    }
+
+
+    private int getTarget (final int state, final char c)
+    {
+        final int index = Arrays.binarySearch (this.edgeCharacters[state], c);
+        return index < 0 ? -1 : this.edgeTargets[state][index];
+    }
+}
@@ -83,10 +83,7 @@ public class AftertouchViewCommand<S extends IControlSurface<C>, C extends Confi
             return;
 
         if (convertAftertouch == AbstractConfiguration.AFTERTOUCH_CONVERT_POLY)
-        {
-            for (final Integer key: this.view.getKeyManager ().getPressedKeys ())
-                this.onPolyAftertouch (key.intValue (), value);
-        }
+            this.view.getKeyManager ().forEachPressed (key -> this.onPolyAftertouch (key, value));
         else
             this.onPolyAftertouch (-1, value);
     }
@@ -147,6 +147,8 @@ public abstract class AbstractConfiguration implements Configuration
     public static final Integer      COLOR_TRACK_STATES              = Integer.valueOf (51);
     /** The speed of the encoder knob can be slowed down. */
     public static final Integer      ENCODER_KNOB_SLOW_DOWN          = Integer.valueOf (52);
+    /** Print the durations of the startup phases. */
+    public static final Integer      PRINT_STARTUP_REPORT            = Integer.valueOf (53);
 
     // Implementation IDs start at 100
     protected static final int       NEXT_SETTING_ID                 = 100;
@@ -1512,6 +1514,19 @@ public abstract class AbstractConfiguration implements Configuration
     }
 
 
+    /**
+     * Activate the setting to print the durations of the startup phases to the console.
+     *
+     * @param settingsUI The settings
+     */
+    protected void activateStartupReportSetting (final ISettingsUI settingsUI)
+    {
+        settingsUI.getSignalSetting ("Startup", CATEGORY_DEBUG, "Print report").addSignalObserver (value -> this.notifyObservers (PRINT_STARTUP_REPORT));
+        this.dontNotifyAll.add (PRINT_STARTUP_REPORT);
+        this.isSettingActive.add (PRINT_STARTUP_REPORT);
+    }
+
+
     /**
      * Activate the note repeat settings.
      *
@@ -97,6 +97,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
 
     private final Object                                  updateCounterLock              = new Object ();
     private int                                           updateCounter                  = 0;
+    private boolean                                       isOutputBatched                = false;
 
     private boolean                                       knobSensitivityIsSlow          = false;
     private final List<ISensitivityCallback>              knobSensitivityObservers       = new ArrayList<> ();
@@ -421,6 +422,19 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     }
 
 
+    /**
+     * Collect all MIDI messages which are sent during a flush and send them together at its end.
+     * Only enable it for devices which do not depend on the order of short and system exclusive
+     * messages, since the short messages are sent first.
+     *
+     * @param isOutputBatched True to enable
+     */
+    protected void setOutputBatched (final boolean isOutputBatched)
+    {
+        this.isOutputBatched = isOutputBatched;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public IMidiInput getMidiInput ()
@@ -786,6 +800,9 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
                 return;
         }
 
+        final boolean isBatched = this.isOutputBatched && this.output != null;
+        if (isBatched)
+            this.output.beginBatch ();
         try
         {
             this.internalFlushHandler ();
@@ -794,6 +811,11 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
         {
             this.host.error ("Crash during flush.", ex);
         }
+        finally
+        {
+            if (isBatched)
+                this.output.endBatch ();
+        }
 
         synchronized (this.updateCounterLock)
         {
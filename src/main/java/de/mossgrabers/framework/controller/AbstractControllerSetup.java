@@ -39,6 +39,7 @@ import de.mossgrabers.framework.mode.Modes;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.utils.ConsoleLogger;
+import de.mossgrabers.framework.utils.StartupTimer;
 import de.mossgrabers.framework.utils.TestCallback;
 import de.mossgrabers.framework.utils.TestFramework;
 import de.mossgrabers.framework.view.AbstractDrum64View;
@@ -66,7 +67,8 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     protected C                   configuration;
     protected ColorManager        colorManager;
     protected IValueChanger       valueChanger;
-    protected Modes               currentMode = null;
+    protected Modes               currentMode  = null;
+    protected final StartupTimer  startupTimer = new StartupTimer ();
 
 
     /**
@@ -140,20 +142,23 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     @Override
     public void init ()
     {
-        this.initConfiguration ();
-        this.createScales ();
-        this.createModel ();
-        this.createSurface ();
-        this.createModes ();
-        this.createObservers ();
-        this.createViews ();
-        this.registerTriggerCommands ();
-        this.registerContinuousCommands ();
-        this.layoutControls ();
+        this.startupTimer.measure ("Configuration", this::initConfiguration);
+        this.startupTimer.measure ("Scales", this::createScales);
+        this.startupTimer.measure ("Model", this::createModel);
+        this.startupTimer.measure ("Surface", this::createSurface);
+        this.startupTimer.measure ("Modes", this::createModes);
+        this.startupTimer.measure ("Observers", this::createObservers);
+        this.startupTimer.measure ("Views", this::createViews);
+        this.startupTimer.measure ("Trigger commands", this::registerTriggerCommands);
+        this.startupTimer.measure ("Continuous commands", this::registerContinuousCommands);
+        this.startupTimer.measure ("Layout", this::layoutControls);
         if (this.model != null)
             this.model.ensureClip ();
 
-        this.configuration.notifyAllObservers ();
+        this.startupTimer.measure ("Notify settings", this.configuration::notifyAllObservers);
+
+        if (this.configuration.canSettingBeObserved (AbstractConfiguration.PRINT_STARTUP_REPORT))
+            this.configuration.addSettingObserver (AbstractConfiguration.PRINT_STARTUP_REPORT, () -> this.host.println (this.startupTimer.createReport ("Startup")));
     }
 
 
@@ -177,6 +182,8 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     {
         try
         {
+            if (this.model != null)
+                this.model.flush ();
             for (final S surface: this.surfaces)
                 surface.flush ();
         }
@@ -4,6 +4,10 @@
 
 package de.mossgrabers.framework.controller.color;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+
 /**
  * Some helper constants for Color.
  *
@@ -83,6 +87,8 @@ public class ColorEx
     private static final double FACTOR        = 0.7;
     private static final double FACTOR2       = 0.4;
 
+    private static final Map<ColorEx, ColorEx> SHARED_COLORS = new ConcurrentHashMap<> ();
+
     private final double        redValue;
     private final double        greenValue;
     private final double        blueValue;
@@ -128,6 +134,25 @@ public class ColorEx
     }
 
 
+    /**
+     * Get a shared immutable color instance. The same instance is returned for all calls with
+     * exactly the same values. Therefore, two shared colors can be compared by identity. Since the
+     * values are not rounded, a shared color is still equal to a constant which was created from
+     * the same values reported by the DAW.
+     *
+     * @param red The red component (0..1)
+     * @param green The green component (0..1)
+     * @param blue The blue component (0..1)
+     * @return The shared color
+     */
+    public static ColorEx getShared (final double red, final double green, final double blue)
+    {
+        final ColorEx color = new ColorEx (red, green, blue);
+        final ColorEx shared = SHARED_COLORS.putIfAbsent (color, color);
+        return shared == null ? color : shared;
+    }
+
+
     /**
      * Converts the components of a color, as specified by the HSB model, to an equivalent set of
      * values for the default RGB model.
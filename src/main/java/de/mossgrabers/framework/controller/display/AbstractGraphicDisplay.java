@@ -7,6 +7,7 @@ package de.mossgrabers.framework.controller.display;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -198,6 +199,29 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void sendLastFrame ()
+    {
+        if (this.executor.isShutdown ())
+            return;
+
+        final String notification;
+        synchronized (this.counterSync)
+        {
+            notification = this.notificationMessage.get ();
+        }
+
+        if (!Objects.equals (notification, this.info.getNotification ()))
+        {
+            this.info = new ModelInfo (notification, this.info.getComponents (), this.info.getOverlays ());
+            this.renderImage ();
+        }
+
+        this.send (this.image);
+    }
+
+
     /**
      * Send the buffered image to the graphics display.
      *
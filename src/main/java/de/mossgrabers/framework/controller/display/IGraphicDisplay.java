@@ -39,6 +39,13 @@ public interface IGraphicDisplay extends IDisplay
     void send ();
 
 
+    /**
+     * Send the content of the last frame again without adding new elements. Only the notification
+     * message is updated.
+     */
+    void sendLastFrame ();
+
+
     /**
      * Set a notification message on the display, which overlays the current content.
      *
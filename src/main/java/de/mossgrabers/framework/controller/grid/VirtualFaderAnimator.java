@@ -0,0 +1,135 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2026
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.grid;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import de.mossgrabers.framework.daw.IHost;
+
+
+/**
+ * A shared clock which moves all active virtual faders of a controller in one tick. The clock only
+ * runs as long as there is at least one fader which has not reached its destination.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class VirtualFaderAnimator
+{
+    /** The default delay between two ticks in milliseconds. */
+    public static final int DEFAULT_TICK_DELAY = 6;
+
+
+    /**
+     * The easing which is applied to the value steps of a fader movement.
+     */
+    public enum Easing
+    {
+        /** Move with constant steps. */
+        LINEAR,
+        /** Move with smaller steps when approaching the destination. */
+        EASE_OUT;
+
+
+        /**
+         * Calculate the next value step.
+         *
+         * @param distance The (absolute) distance to the destination value
+         * @param maxStep The maximum step depending on the velocity
+         * @return The step
+         */
+        public int getStep (final int distance, final int maxStep)
+        {
+            if (this == EASE_OUT)
+                return Math.min (maxStep, Math.max (1, (distance + 1) / 2));
+            return Math.min (maxStep, distance);
+        }
+    }
+
+
+    private final IHost                  host;
+    private final List<VirtualFaderImpl> activeFaders = new ArrayList<> ();
+    private int                          tickDelay    = DEFAULT_TICK_DELAY;
+    private Easing                       easing       = Easing.LINEAR;
+    private boolean                      isRunning    = false;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     */
+    public VirtualFaderAnimator (final IHost host)
+    {
+        this.host = host;
+    }
+
+
+    /**
+     * Set the delay between two ticks. The default is 6ms. It seems that setting USER parameters is
+     * slower and the delay needs to be at least 6ms for the detection of boolean and list
+     * parameters!
+     *
+     * @param tickDelay The delay in milliseconds, minimum is 1
+     */
+    public void setTickDelay (final int tickDelay)
+    {
+        this.tickDelay = Math.max (1, tickDelay);
+    }
+
+
+    /**
+     * Set the easing of the fader movements.
+     *
+     * @param easing The easing
+     */
+    public void setEasing (final Easing easing)
+    {
+        this.easing = easing;
+    }
+
+
+    /**
+     * Get the easing of the fader movements.
+     *
+     * @return The easing
+     */
+    public Easing getEasing ()
+    {
+        return this.easing;
+    }
+
+
+    /**
+     * Add a fader to the animation and start the clock if it is not running.
+     *
+     * @param fader The fader to animate
+     */
+    void start (final VirtualFaderImpl fader)
+    {
+        if (!this.activeFaders.contains (fader))
+            this.activeFaders.add (fader);
+
+        if (this.isRunning)
+            return;
+        this.isRunning = true;
+        this.tick ();
+    }
+
+
+    /**
+     * Move all active faders by one step and schedule the next tick as long as any fader is still
+     * moving.
+     */
+    private void tick ()
+    {
+        this.activeFaders.removeIf (fader -> !fader.animate ());
+
+        if (this.activeFaders.isEmpty ())
+            this.isRunning = false;
+        else
+            this.host.scheduleTask (this::tick, this.tickDelay);
+    }
+}
@@ -4,9 +4,6 @@
 
 package de.mossgrabers.framework.controller.grid;
 
-import de.mossgrabers.framework.daw.IHost;
-
-
 /**
  * Default implementation of a virtual fader.
  *
@@ -39,9 +36,9 @@ public class VirtualFaderImpl implements IVirtualFader
     };
     // @formatter:on
 
-    private static final int            LOOP_DELAY             = 6;
+    private static final int            STEP_SIZE_FACTOR       = 6;
 
-    private final IHost                 host;
+    private final VirtualFaderAnimator  animator;
     private final IVirtualFaderCallback callback;
     private final IPadGrid              padGrid;
     private final int                   index;
@@ -50,11 +47,13 @@ public class VirtualFaderImpl implements IVirtualFader
     private boolean                     isPanning;
     private final int []                colorStates            = new int [8];
 
-    private int                         moveDelay;
-    private int                         moveTimerDelay;
+    private int                         moveStepSize;
+    private int                         moveStepTicks;
+    private int                         moveWaitTicks;
     private int                         moveDestination;
     private int                         moveTargetValue;
     private boolean                     moveDirectionIsUpwards = true;
+    private boolean                     isVerifying;
     private boolean                     isKnobType;
 
 
@@ -62,26 +61,26 @@ public class VirtualFaderImpl implements IVirtualFader
      * Constructor. Does not update a slider on the grid. Use getColorState method to draw the fader
      * yourself.
      *
-     * @param host The host
+     * @param animator The animator which moves the fader
      * @param callback Callback for getting and setting fader values
      */
-    public VirtualFaderImpl (final IHost host, final IVirtualFaderCallback callback)
+    public VirtualFaderImpl (final VirtualFaderAnimator animator, final IVirtualFaderCallback callback)
     {
-        this (host, callback, null, -1);
+        this (animator, callback, null, -1);
     }
 
 
     /**
      * Constructor.
      *
-     * @param host The host
+     * @param animator The animator which moves the fader
      * @param callback Callback for getting and setting fader values
      * @param padGrid The pad grid on which the virtual fader is drawn
      * @param index the index of the fader
      */
-    public VirtualFaderImpl (final IHost host, final IVirtualFaderCallback callback, final IPadGrid padGrid, final int index)
+    public VirtualFaderImpl (final VirtualFaderAnimator animator, final IVirtualFaderCallback callback, final IPadGrid padGrid, final int index)
     {
-        this.host = host;
+        this.animator = animator;
         this.padGrid = padGrid;
         this.index = index;
         this.callback = callback;
@@ -127,14 +126,13 @@ public class VirtualFaderImpl implements IVirtualFader
     public void moveTo (final int row, final int velocity)
     {
         // About 3 seconds on softest velocity
-        this.moveDelay = SPEED_SCALE[velocity] * LOOP_DELAY;
-        this.moveTimerDelay = SPEED_SCALE[SPEED_SCALE.length - 1 - velocity] * LOOP_DELAY;
-
-        // Compensate for parameter type detection delay
-        this.moveTimerDelay -= 1;
+        this.moveStepSize = SPEED_SCALE[velocity] * STEP_SIZE_FACTOR;
+        this.moveStepTicks = SPEED_SCALE[SPEED_SCALE.length - 1 - velocity];
 
         // Reset parameter type detection flag
         this.isKnobType = false;
+        this.isVerifying = false;
+        this.moveWaitTicks = 0;
 
         // Calculate the bounds of the destination pad
         final int min = row * PAD_VALUE_AMOUNT;
@@ -172,43 +170,54 @@ public class VirtualFaderImpl implements IVirtualFader
 
         this.moveDestination = newDestination;
 
-        this.moveFaderToDestination ();
+        this.animator.start (this);
     }
 
 
-    protected void moveFaderToDestination ()
+    /**
+     * Execute one tick of the movement towards the destination. Called by the animator.
+     *
+     * @return True if the fader is still moving
+     */
+    boolean animate ()
     {
+        if (this.moveWaitTicks > 0)
+        {
+            this.moveWaitTicks--;
+            return true;
+        }
+
+        if (this.isVerifying)
+        {
+            this.isVerifying = false;
+
+            // Compare updated parameter value to target update value, if it is different the
+            // parameter is either a boolean or selection list type and the destination value should
+            // be force set
+            if (!this.isKnobType && this.callback.getValue () != this.moveTargetValue)
+            {
+                this.callback.setValue (this.moveDestination);
+                return false;
+            }
+
+            this.isKnobType = true;
+            // The verification tick already counts as one tick of the delay
+            this.moveWaitTicks = this.moveStepTicks - 1;
+            return true;
+        }
+
         final int current = this.callback.getValue ();
         if (current == this.moveDestination)
-            return;
+            return false;
 
         this.moveDirectionIsUpwards = current < this.moveDestination;
-        this.moveTargetValue = this.moveDirectionIsUpwards ? Math.min (current + this.moveDelay, this.moveDestination) : Math.max (current - this.moveDelay, this.moveDestination);
-
+        final int step = this.animator.getEasing ().getStep (Math.abs (this.moveDestination - current), this.moveStepSize);
+        this.moveTargetValue = this.moveDirectionIsUpwards ? current + step : current - step;
         this.callback.setValue (this.moveTargetValue);
 
         // Delay to allow the parameter value to update properly
-        this.host.scheduleTask (this::moveFaderToDestinationCallback, LOOP_DELAY);
-    }
-
-
-    protected void moveFaderToDestinationCallback ()
-    {
-        final int updatedValue = this.callback.getValue ();
-
-        // Compare updated parameter value to target update value, if it is different the parameter
-        // is either a boolean or selection list type and the destination value should be force set
-        // It seems that setting USER parameters is slower and LOOP_DELAY needs to be at least 6!
-        if (!this.isKnobType && updatedValue != this.moveTargetValue)
-        {
-            this.host.println ("FORCED!");
-
-            this.callback.setValue (this.moveDestination);
-            return;
-        }
-
-        this.isKnobType = true;
-        this.host.scheduleTask (this::moveFaderToDestination, this.moveTimerDelay);
+        this.isVerifying = true;
+        return true;
     }
 
 
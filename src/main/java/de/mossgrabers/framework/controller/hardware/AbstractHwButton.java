@@ -10,7 +10,6 @@ import java.util.List;
 import de.mossgrabers.framework.command.core.TriggerCommand;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.utils.ButtonEvent;
-import de.mossgrabers.framework.utils.TimeoutOptimizer;
 
 
 /**
@@ -20,21 +19,18 @@ import de.mossgrabers.framework.utils.TimeoutOptimizer;
  */
 public abstract class AbstractHwButton extends AbstractHwInputControl implements IHwButton
 {
-    private static final int               BUTTON_STATE_INTERVAL = 500;
-
-    private final TimeoutOptimizer         optimizer;
+    private final LongPressTimer           longPressTimer;
 
     protected TriggerCommand               command;
     protected IHwLight                     light;
 
     private ButtonEvent                    state;
     private boolean                        isConsumed;
-    private int                            pressedVelocity       = 0;
-    private int                            scheduleCounter       = 0;
-    private final Object                   buttonStateLock       = new Object ();
+    private int                            pressedVelocity   = 0;
+    private final Object                   buttonStateLock   = new Object ();
 
-    private final List<ButtonEventHandler> downEventHandlers     = new ArrayList<> ();
-    private final List<ButtonEventHandler> upEventHandlers       = new ArrayList<> ();
+    private final List<ButtonEventHandler> downEventHandlers = new ArrayList<> ();
+    private final List<ButtonEventHandler> upEventHandlers   = new ArrayList<> ();
 
 
     /**
@@ -42,12 +38,13 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
      *
      * @param host The host
      * @param label The label of the button
+     * @param longPressTimer The timer which detects long presses of the buttons of the surface
      */
-    protected AbstractHwButton (final IHost host, final String label)
+    protected AbstractHwButton (final IHost host, final String label, final LongPressTimer longPressTimer)
     {
         super (host, label);
 
-        this.optimizer = new TimeoutOptimizer (host, BUTTON_STATE_INTERVAL);
+        this.longPressTimer = longPressTimer;
     }
 
 
@@ -67,6 +64,7 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
         {
             this.state = null;
         }
+        this.longPressTimer.cancel (this);
     }
 
 
@@ -85,9 +83,8 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
         {
             this.state = ButtonEvent.DOWN;
             this.isConsumed = false;
-            this.scheduleCounter++;
-            this.host.scheduleTask (this::checkButtonState, this.optimizer.getTimeout ());
         }
+        this.longPressTimer.start (this);
 
         this.pressedVelocity = (int) (value * 127.0);
         if (this.command != null)
@@ -109,6 +106,7 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
         {
             this.state = ButtonEvent.UP;
         }
+        this.longPressTimer.cancel (this);
 
         if (this.command != null && !this.isConsumed)
             this.command.execute (ButtonEvent.UP, 0);
@@ -239,18 +237,12 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
 
     /**
      * If the state of the given button is still down, the state is set to long and an event gets
-     * fired.
+     * fired. Called by the long press timer when the deadline of the button has passed.
      */
-    private void checkButtonState ()
+    void checkButtonState ()
     {
         synchronized (this.buttonStateLock)
         {
-            this.scheduleCounter--;
-            // This prevents that LONG is accidently fired if one quickly switches between 2 buttons
-            // and the old scheduler was still running
-            if (this.scheduleCounter > 0)
-                return;
-
             if (!this.isPressed ())
                 return;
             this.state = ButtonEvent.LONG;
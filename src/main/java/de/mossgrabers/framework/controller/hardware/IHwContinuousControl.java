@@ -45,6 +45,14 @@ public interface IHwContinuousControl extends IHwInputControl
     void bind (IParameter parameter);
 
 
+    /**
+     * Get the parameter which is directly bound to the control.
+     *
+     * @return The parameter or null if none is bound
+     */
+    IParameter getParameter ();
+
+
     /**
      * Bind a command which is executed when the control (knob, fader) is touched.
      *
@@ -0,0 +1,118 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2026
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.hardware;
+
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.utils.TimeoutOptimizer;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * A timer wheel which detects long presses of all buttons of a controller surface. The pressed
+ * buttons are tracked with their deadlines and one tick fires the long press of all buttons whose
+ * deadline has passed. Therefore, at most one task is scheduled at the host regardless of the number
+ * of buttons which are held. All buttons share the same calibrated timeout.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class LongPressTimer
+{
+    private static final int                  BUTTON_STATE_INTERVAL = 500;
+
+    private final IHost                       host;
+    private final TimeoutOptimizer            optimizer;
+    private final Map<AbstractHwButton, Long> deadlines             = new LinkedHashMap<> ();
+    private final List<AbstractHwButton>      expired               = new ArrayList<> ();
+    private boolean                           isScheduled           = false;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     */
+    public LongPressTimer (final IHost host)
+    {
+        this.host = host;
+        this.optimizer = new TimeoutOptimizer (host, BUTTON_STATE_INTERVAL);
+    }
+
+
+    /**
+     * Start to watch a pressed button. If the button is already watched, the deadline is reset.
+     *
+     * @param button The button
+     */
+    synchronized void start (final AbstractHwButton button)
+    {
+        // Re-insert to keep the order of the deadlines
+        this.deadlines.remove (button);
+        this.deadlines.put (button, Long.valueOf (System.currentTimeMillis () + BUTTON_STATE_INTERVAL));
+        if (!this.isScheduled)
+            this.schedule (BUTTON_STATE_INTERVAL);
+    }
+
+
+    /**
+     * Stop watching a button, e.g. since it was released.
+     *
+     * @param button The button
+     */
+    synchronized void cancel (final AbstractHwButton button)
+    {
+        this.deadlines.remove (button);
+    }
+
+
+    /**
+     * Fire the long press of all buttons whose deadline has passed and schedule the next tick for
+     * the earliest remaining deadline.
+     */
+    private void tick ()
+    {
+        synchronized (this)
+        {
+            this.isScheduled = false;
+
+            final long now = System.currentTimeMillis ();
+            final Iterator<Map.Entry<AbstractHwButton, Long>> iterator = this.deadlines.entrySet ().iterator ();
+            while (iterator.hasNext ())
+            {
+                final Map.Entry<AbstractHwButton, Long> entry = iterator.next ();
+                final long remaining = entry.getValue ().longValue () - now;
+                if (remaining > 0)
+                {
+                    // The deadlines are ordered, all following are later
+                    this.schedule (remaining);
+                    break;
+                }
+                this.expired.add (entry.getKey ());
+                iterator.remove ();
+            }
+        }
+
+        // Fire outside of the lock since the commands might press or release other buttons
+        for (final AbstractHwButton button: this.expired)
+            button.checkButtonState ();
+        this.expired.clear ();
+    }
+
+
+    /**
+     * Schedule the next tick. The delay is scaled by the measured timeout of the host scheduler.
+     *
+     * @param delay The delay in milliseconds
+     */
+    private void schedule (final long delay)
+    {
+        this.isScheduled = true;
+        this.host.scheduleTask (this::tick, delay * this.optimizer.getTimeout () / BUTTON_STATE_INTERVAL);
+    }
+}
@@ -378,6 +378,13 @@ public interface IModel
     IClipLauncherNavigator getClipLauncherNavigator ();
 
 
+    /**
+     * Needs to be called after the DAW has sent a batch of changes, before the surfaces are
+     * updated.
+     */
+    void flush ();
+
+
     /**
      * Needs to be called on shutdown in case there is anything to clean up.
      */
@@ -16,7 +16,8 @@ import de.mossgrabers.framework.utils.StringUtils;
 public abstract class AbstractItemImpl implements IItem
 {
     protected final int index;
-    private boolean     selected = false;
+    private boolean     selected          = false;
+    private long        modificationStamp = NO_MODIFICATION_STAMP;
 
 
     /**
@@ -99,7 +100,10 @@ public abstract class AbstractItemImpl implements IItem
     @Override
     public void setSelected (final boolean isSelected)
     {
+        if (this.selected == isSelected)
+            return;
         this.selected = isSelected;
+        this.markChanged ();
     }
 
 
@@ -144,4 +148,52 @@ public abstract class AbstractItemImpl implements IItem
     {
         // Intentionally empty
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public long getModificationStamp ()
+    {
+        return this.modificationStamp;
+    }
+
+
+    /**
+     * Start to track the changes of the item. Only call it from the constructor of an item which
+     * calls markChanged on each change of all of its values.
+     */
+    protected void enableModificationStamp ()
+    {
+        this.modificationStamp = 0;
+    }
+
+
+    /**
+     * Increase the modification stamp, if enabled. Call on each change of the data of the item.
+     */
+    protected void markChanged ()
+    {
+        if (this.modificationStamp != NO_MODIFICATION_STAMP)
+            this.modificationStamp++;
+    }
+
+
+    /**
+     * Sum up the modification stamps of the parts of a composite object. The sum of monotonic
+     * increasing stamps is also monotonic increasing.
+     *
+     * @param stamps The modification stamps
+     * @return The sum or NO_MODIFICATION_STAMP if one of the parts does not track its changes
+     */
+    public static long sumModificationStamps (final long... stamps)
+    {
+        long sum = 0;
+        for (final long stamp: stamps)
+        {
+            if (stamp == NO_MODIFICATION_STAMP)
+                return NO_MODIFICATION_STAMP;
+            sum += stamp;
+        }
+        return sum;
+    }
 }
@@ -99,4 +99,21 @@ public interface IItem extends IObserverManagement
      * @param name The new name
      */
     void setName (String name);
+
+
+    /** The modification stamp of an item which does not track its changes. */
+    long NO_MODIFICATION_STAMP = -1;
+
+
+    /**
+     * Get the modification stamp of the item. The stamp increases on each change of the item, which
+     * allows to skip work if the stamp did not change since it was retrieved the last time. Only
+     * the slots, scenes, markers, channels (including tracks, layers and their volume, panorama,
+     * mute, solo, cross-fade and send parameters; VU meters are excluded) and the Bitwig parameters
+     * track their changes. All other items return NO_MODIFICATION_STAMP and must be treated as
+     * changed on every call.
+     *
+     * @return The modification stamp or NO_MODIFICATION_STAMP
+     */
+    long getModificationStamp ();
 }
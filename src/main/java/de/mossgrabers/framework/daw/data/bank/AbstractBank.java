@@ -5,6 +5,7 @@
 package de.mossgrabers.framework.daw.data.bank;
 
 import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.data.IItem;
 import de.mossgrabers.framework.observer.IBankPageObserver;
 import de.mossgrabers.framework.observer.IItemSelectionObserver;
 
@@ -29,6 +30,7 @@ public abstract class AbstractBank<T> implements IBank<T>
 
     private final Set<IItemSelectionObserver> selectionObservers = new CopyOnWriteArraySet<> ();
     private final Set<IBankPageObserver>      pageObservers      = new CopyOnWriteArraySet<> ();
+    private long                              modificationStamp  = IItem.NO_MODIFICATION_STAMP;
 
 
     /**
@@ -184,6 +186,48 @@ public abstract class AbstractBank<T> implements IBank<T>
      */
     public void firePageObserver ()
     {
+        this.markChanged ();
         this.pageObservers.forEach (IBankPageObserver::pageAdjusted);
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public long getModificationStamp ()
+    {
+        if (this.modificationStamp == IItem.NO_MODIFICATION_STAMP)
+            return IItem.NO_MODIFICATION_STAMP;
+
+        // The sum of monotonic increasing stamps is also monotonic increasing
+        long stamp = this.modificationStamp;
+        for (final T item: this.items)
+        {
+            final long itemStamp = item instanceof final IItem i ? i.getModificationStamp () : IItem.NO_MODIFICATION_STAMP;
+            if (itemStamp == IItem.NO_MODIFICATION_STAMP)
+                return IItem.NO_MODIFICATION_STAMP;
+            stamp += itemStamp;
+        }
+        return stamp;
+    }
+
+
+    /**
+     * Start to track the changes of the bank itself. Only call it from the constructor of a bank
+     * which calls markChanged on each change of its page.
+     */
+    protected void enableModificationStamp ()
+    {
+        this.modificationStamp = 0;
+    }
+
+
+    /**
+     * Increase the modification stamp of the bank itself, if enabled, e.g. when the bank was
+     * scrolled.
+     */
+    protected void markChanged ()
+    {
+        if (this.modificationStamp != IItem.NO_MODIFICATION_STAMP)
+            this.modificationStamp++;
+    }
 }
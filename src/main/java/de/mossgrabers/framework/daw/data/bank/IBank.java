@@ -227,4 +227,16 @@ public interface IBank<T> extends IObserverManagement
      * @param shouldSkip True to exclude disabled items
      */
     void setSkipDisabledItems (boolean shouldSkip);
+
+
+    /**
+     * Get the aggregated modification stamp of the bank and the items of its page. The stamp
+     * increases on any change of the bank (e.g. scrolling) or of one of its items. Compare it with
+     * a previously retrieved stamp to detect if anything has changed. Only the Bitwig item banks
+     * track their own changes and only if all of their items track their changes as well (see
+     * IItem.getModificationStamp), otherwise IItem.NO_MODIFICATION_STAMP is returned.
+     *
+     * @return The modification stamp or IItem.NO_MODIFICATION_STAMP
+     */
+    long getModificationStamp ();
 }
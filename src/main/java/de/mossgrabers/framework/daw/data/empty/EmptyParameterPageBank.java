@@ -271,4 +271,12 @@ public class EmptyParameterPageBank implements IParameterPageBank
     {
         // Intentionally empty
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public long getModificationStamp ()
+    {
+        return 0;
+    }
 }
\ No newline at end of file
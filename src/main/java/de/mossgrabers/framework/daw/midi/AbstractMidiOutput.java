@@ -4,33 +4,40 @@
 
 package de.mossgrabers.framework.daw.midi;
 
+import de.mossgrabers.framework.utils.StringUtils;
+
+
 /**
- * An abstract implementation for a MIDI output
+ * An abstract implementation for a MIDI output. While a batch is open, all messages are collected
+ * in a queue and sent when the batch ends.
  *
  * @author Jürgen Moßgraber
  */
 public abstract class AbstractMidiOutput implements IMidiOutput
 {
     /** The MIDI status byte for MPE Zone 1. */
-    public static final int    ZONE_1                                  = 0xB0;
+    public static final int       ZONE_1                                  = 0xB0;
     /** The MIDI status byte for MPE Zone 2. */
-    public static final int    ZONE_2                                  = 0xBF;
+    public static final int       ZONE_2                                  = 0xBF;
+
+    protected static final int    REGISTERED_PARAMETER_NUMBER_MSB         = 0x65;
+    protected static final int    REGISTERED_PARAMETER_NUMBER_LSB         = 0x64;
+    protected static final int    DATA_ENTRY_MPE_MSB                      = 0x06;
+    protected static final int    DATA_ENTRY_MPE_LSB                      = 0x26;
+    protected static final int    PARAMETER_MPE_CONFIG_MSB                = 0x00;
+    protected static final int    PARAMETER_MPE_CONFIG_LSB                = 0x06;
+    protected static final int    PARAMETER_MPE_PITCHBEND_SENSITIVITY_MSB = 0x00;
+    protected static final int    PARAMETER_MPE_PITCHBEND_SENSITIVITY_LSB = 0x00;
 
-    protected static final int REGISTERED_PARAMETER_NUMBER_MSB         = 0x65;
-    protected static final int REGISTERED_PARAMETER_NUMBER_LSB         = 0x64;
-    protected static final int DATA_ENTRY_MPE_MSB                      = 0x06;
-    protected static final int DATA_ENTRY_MPE_LSB                      = 0x26;
-    protected static final int PARAMETER_MPE_CONFIG_MSB                = 0x00;
-    protected static final int PARAMETER_MPE_CONFIG_LSB                = 0x06;
-    protected static final int PARAMETER_MPE_PITCHBEND_SENSITIVITY_MSB = 0x00;
-    protected static final int PARAMETER_MPE_PITCHBEND_SENSITIVITY_LSB = 0x00;
+    private final MidiOutputQueue queue                                   = new MidiOutputQueue ();
+    private boolean               isBatching                              = false;
 
 
     /** {@inheritDoc} */
     @Override
     public void sendCC (final int cc, final int value)
     {
-        this.sendMidiShort (MidiConstants.CMD_CC, cc, value);
+        this.queueMidiShort (MidiConstants.CMD_CC, cc, value, true);
     }
 
 
@@ -38,7 +45,7 @@ public abstract class AbstractMidiOutput implements IMidiOutput
     @Override
     public void sendCCEx (final int channel, final int cc, final int value)
     {
-        this.sendMidiShort (MidiConstants.CMD_CC + channel, cc, value);
+        this.queueMidiShort (MidiConstants.CMD_CC + channel, cc, value, true);
     }
 
 
@@ -46,7 +53,7 @@ public abstract class AbstractMidiOutput implements IMidiOutput
     @Override
     public void sendNote (final int note, final int velocity)
     {
-        this.sendMidiShort (MidiConstants.CMD_NOTE_ON, note, velocity);
+        this.queueMidiShort (MidiConstants.CMD_NOTE_ON, note, velocity, true);
     }
 
 
@@ -54,7 +61,7 @@ public abstract class AbstractMidiOutput implements IMidiOutput
     @Override
     public void sendNoteEx (final int channel, final int note, final int velocity)
     {
-        this.sendMidiShort (MidiConstants.CMD_NOTE_ON + channel, note, velocity);
+        this.queueMidiShort (MidiConstants.CMD_NOTE_ON + channel, note, velocity, true);
     }
 
 
@@ -62,7 +69,7 @@ public abstract class AbstractMidiOutput implements IMidiOutput
     @Override
     public void sendPolyphonicAftertouch (final int data1, final int data2)
     {
-        this.sendMidiShort (MidiConstants.CMD_POLY_AFTERTOUCH, data1, data2);
+        this.queueMidiShort (MidiConstants.CMD_POLY_AFTERTOUCH, data1, data2, true);
     }
 
 
@@ -70,7 +77,7 @@ public abstract class AbstractMidiOutput implements IMidiOutput
     @Override
     public void sendPolyphonicAftertouch (final int channel, final int data1, final int data2)
     {
-        this.sendMidiShort (MidiConstants.CMD_POLY_AFTERTOUCH + channel, data1, data2);
+        this.queueMidiShort (MidiConstants.CMD_POLY_AFTERTOUCH + channel, data1, data2, true);
     }
 
 
@@ -78,7 +85,7 @@ public abstract class AbstractMidiOutput implements IMidiOutput
     @Override
     public void sendChannelAftertouch (final int data1, final int data2)
     {
-        this.sendMidiShort (MidiConstants.CMD_CHANNEL_AFTERTOUCH, data1, data2);
+        this.queueMidiShort (MidiConstants.CMD_CHANNEL_AFTERTOUCH, data1, data2, false);
     }
 
 
@@ -86,7 +93,7 @@ public abstract class AbstractMidiOutput implements IMidiOutput
     @Override
     public void sendChannelAftertouch (final int channel, final int data1, final int data2)
     {
-        this.sendMidiShort (MidiConstants.CMD_CHANNEL_AFTERTOUCH + channel, data1, data2);
+        this.queueMidiShort (MidiConstants.CMD_CHANNEL_AFTERTOUCH + channel, data1, data2, false);
     }
 
 
@@ -94,7 +101,7 @@ public abstract class AbstractMidiOutput implements IMidiOutput
     @Override
     public void sendPitchbend (final int data1, final int data2)
     {
-        this.sendMidiShort (MidiConstants.CMD_PITCHBEND, data1, data2);
+        this.queueMidiShort (MidiConstants.CMD_PITCHBEND, data1, data2, true);
     }
 
 
@@ -102,7 +109,7 @@ public abstract class AbstractMidiOutput implements IMidiOutput
     @Override
     public void sendPitchbend (final int channel, final int data1, final int data2)
     {
-        this.sendMidiShort (MidiConstants.CMD_PITCHBEND + channel, data1, data2);
+        this.queueMidiShort (MidiConstants.CMD_PITCHBEND + channel, data1, data2, true);
     }
 
 
@@ -118,9 +125,43 @@ public abstract class AbstractMidiOutput implements IMidiOutput
     @Override
     public void sendProgramChange (final int channel, final int bankMSB, final int bankLSB, final int value)
     {
-        this.sendCCEx (channel, 0, bankMSB);
-        this.sendCCEx (channel, 32, bankLSB);
-        this.sendMidiShort (MidiConstants.CMD_PROGRAM_CHANGE + channel, value, 0);
+        // The bank selection belongs to the program change, therefore keep the order
+        this.queueMidiShort (MidiConstants.CMD_CC + channel, 0, bankMSB, false);
+        this.queueMidiShort (MidiConstants.CMD_CC + channel, 32, bankLSB, false);
+        this.queueMidiShort (MidiConstants.CMD_PROGRAM_CHANGE + channel, value, 0, false);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendSysex (final byte []... data)
+    {
+        synchronized (this.queue)
+        {
+            if (this.isBatching)
+            {
+                // Copy the data since the caller might re-use the array
+                this.queue.addSysex (data.length == 1 ? data[0].clone () : concatArrays (data));
+                return;
+            }
+            this.sendSysexMessage (concatArrays (data));
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendSysex (final String data)
+    {
+        synchronized (this.queue)
+        {
+            if (this.isBatching)
+            {
+                this.queue.addSysex (StringUtils.asBytes (StringUtils.fromHexStr (data.replaceAll ("\\s", ""))));
+                return;
+            }
+            this.sendSysexMessage (data);
+        }
     }
 
 
@@ -128,12 +169,12 @@ public abstract class AbstractMidiOutput implements IMidiOutput
     @Override
     public void configureMPE (final int zone, final int numberOfChannels)
     {
-        this.sendMidiShort (zone, REGISTERED_PARAMETER_NUMBER_MSB, PARAMETER_MPE_CONFIG_MSB);
-        this.sendMidiShort (zone, REGISTERED_PARAMETER_NUMBER_LSB, PARAMETER_MPE_CONFIG_LSB);
-        this.sendMidiShort (zone, DATA_ENTRY_MPE_MSB, numberOfChannels);
-        this.sendMidiShort (zone, DATA_ENTRY_MPE_LSB, 0);
-        this.sendMidiShort (zone, REGISTERED_PARAMETER_NUMBER_MSB, 127);
-        this.sendMidiShort (zone, REGISTERED_PARAMETER_NUMBER_LSB, 127);
+        this.queueMidiShort (zone, REGISTERED_PARAMETER_NUMBER_MSB, PARAMETER_MPE_CONFIG_MSB, false);
+        this.queueMidiShort (zone, REGISTERED_PARAMETER_NUMBER_LSB, PARAMETER_MPE_CONFIG_LSB, false);
+        this.queueMidiShort (zone, DATA_ENTRY_MPE_MSB, numberOfChannels, false);
+        this.queueMidiShort (zone, DATA_ENTRY_MPE_LSB, 0, false);
+        this.queueMidiShort (zone, REGISTERED_PARAMETER_NUMBER_MSB, 127, false);
+        this.queueMidiShort (zone, REGISTERED_PARAMETER_NUMBER_LSB, 127, false);
     }
 
 
@@ -141,12 +182,66 @@ public abstract class AbstractMidiOutput implements IMidiOutput
     @Override
     public void sendMPEPitchbendRange (final int zone, final int range)
     {
-        this.sendMidiShort (zone, REGISTERED_PARAMETER_NUMBER_MSB, PARAMETER_MPE_PITCHBEND_SENSITIVITY_MSB);
-        this.sendMidiShort (zone, REGISTERED_PARAMETER_NUMBER_LSB, PARAMETER_MPE_PITCHBEND_SENSITIVITY_LSB);
-        this.sendMidiShort (zone, DATA_ENTRY_MPE_MSB, range);
-        this.sendMidiShort (zone, DATA_ENTRY_MPE_LSB, 0);
-        this.sendMidiShort (zone, REGISTERED_PARAMETER_NUMBER_MSB, 127);
-        this.sendMidiShort (zone, REGISTERED_PARAMETER_NUMBER_LSB, 127);
+        this.queueMidiShort (zone, REGISTERED_PARAMETER_NUMBER_MSB, PARAMETER_MPE_PITCHBEND_SENSITIVITY_MSB, false);
+        this.queueMidiShort (zone, REGISTERED_PARAMETER_NUMBER_LSB, PARAMETER_MPE_PITCHBEND_SENSITIVITY_LSB, false);
+        this.queueMidiShort (zone, DATA_ENTRY_MPE_MSB, range, false);
+        this.queueMidiShort (zone, DATA_ENTRY_MPE_LSB, 0, false);
+        this.queueMidiShort (zone, REGISTERED_PARAMETER_NUMBER_MSB, 127, false);
+        this.queueMidiShort (zone, REGISTERED_PARAMETER_NUMBER_LSB, 127, false);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void beginBatch ()
+    {
+        synchronized (this.queue)
+        {
+            this.isBatching = true;
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void endBatch ()
+    {
+        synchronized (this.queue)
+        {
+            this.isBatching = false;
+            this.queue.send (this);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setBandwidthLimit (final int maxBytes)
+    {
+        synchronized (this.queue)
+        {
+            this.queue.setBandwidthLimit (maxBytes);
+        }
+    }
+
+
+    /**
+     * Queues a short MIDI message while a batch is open, otherwise it is sent directly.
+     *
+     * @param status the status byte of the MIDI message
+     * @param data1 the data1 part of the MIDI message
+     * @param data2 the data2 part of the MIDI message
+     * @param canReplace True if the message may replace a queued message to the same target
+     */
+    private void queueMidiShort (final int status, final int data1, final int data2, final boolean canReplace)
+    {
+        synchronized (this.queue)
+        {
+            if (this.isBatching)
+                this.queue.addShort (status, data1, data2, canReplace);
+            else
+                this.sendMidiShort (status, data1, data2);
+        }
     }
 
 
@@ -160,6 +255,22 @@ public abstract class AbstractMidiOutput implements IMidiOutput
     protected abstract void sendMidiShort (final int status, final int data1, final int data2);
 
 
+    /**
+     * Sends a system exclusive message to the hardware device.
+     *
+     * @param data The complete message
+     */
+    protected abstract void sendSysexMessage (final byte [] data);
+
+
+    /**
+     * Sends a system exclusive message to the hardware device.
+     *
+     * @param data The message formatted as a hex string, e.g. F0 7E 7F 06 01 F7
+     */
+    protected abstract void sendSysexMessage (final String data);
+
+
     /**
      * Concatenates all given arrays.
      * 
@@ -159,4 +159,27 @@ public interface IMidiOutput
      * @param range The pitch bend range (1-96)
      */
     void sendMPEPitchbendRange (int zone, int range);
+
+
+    /**
+     * Start to collect all following messages instead of sending them directly.
+     */
+    void beginBatch ();
+
+
+    /**
+     * Send all collected messages and stop collecting. Only the latest value of a note, CC,
+     * polyphonic aftertouch or pitchbend is sent. The short messages are sent before the system
+     * exclusive messages.
+     */
+    void endBatch ();
+
+
+    /**
+     * Limit the number of bytes which are sent at the end of a batch. Messages which exceed the
+     * limit are sent with the next batch.
+     *
+     * @param maxBytes The maximum number of bytes, 0 for no limit
+     */
+    void setBandwidthLimit (int maxBytes);
 }
\ No newline at end of file
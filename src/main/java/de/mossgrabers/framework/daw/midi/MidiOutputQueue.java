@@ -0,0 +1,202 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2026
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+
+/**
+ * Collects the MIDI messages of one output port while a batch is open. Messages which address a
+ * fixed target (a note, CC or polyphonic aftertouch per channel and number, the pitchbend per
+ * channel) replace a pending message to the same target at its original position, therefore only
+ * the latest value is sent. All other short messages are appended in order. When the batch is
+ * sent, the short messages (e.g. LEDs and motor faders) are sent first and the system exclusive
+ * messages (e.g. displays) afterwards. If a bandwidth limit is set, the messages which exceed it
+ * stay queued for the next batch.
+ *
+ * @author Jürgen Moßgraber
+ */
+class MidiOutputQueue
+{
+    private static final int     NO_POSITION      = -1;
+    private static final int     SHORT_SIZE       = 3;
+
+    private final int []         positions        = new int [0x10000];
+    private int []               shortMessages    = new int [256];
+    private int                  numShortMessages = 0;
+    private final Deque<byte []> sysexMessages    = new ArrayDeque<> ();
+    private int                  bandwidthLimit   = 0;
+
+
+    /**
+     * Constructor.
+     */
+    public MidiOutputQueue ()
+    {
+        Arrays.fill (this.positions, NO_POSITION);
+    }
+
+
+    /**
+     * Set the maximum number of bytes to send with one batch.
+     *
+     * @param maxBytes The maximum number of bytes, 0 for no limit
+     */
+    public void setBandwidthLimit (final int maxBytes)
+    {
+        this.bandwidthLimit = Math.max (0, maxBytes);
+    }
+
+
+    /**
+     * Queue a short MIDI message.
+     *
+     * @param status the status byte of the MIDI message
+     * @param data1 the data1 part of the MIDI message
+     * @param data2 the data2 part of the MIDI message
+     * @param canReplace True if the message may replace a pending message to the same target
+     */
+    public void addShort (final int status, final int data1, final int data2, final boolean canReplace)
+    {
+        final int message = (status & 0xFF) << 16 | (data1 & 0xFF) << 8 | data2 & 0xFF;
+        final int key = getKey (message);
+        if (canReplace && isReplaceable (status))
+        {
+            final int position = this.positions[key];
+            if (position != NO_POSITION)
+            {
+                this.shortMessages[position] = message;
+                return;
+            }
+            this.positions[key] = this.numShortMessages;
+        }
+        else
+        {
+            // Later messages to the same target must not be moved before this one
+            this.positions[key] = NO_POSITION;
+        }
+
+        if (this.numShortMessages == this.shortMessages.length)
+            this.shortMessages = Arrays.copyOf (this.shortMessages, this.shortMessages.length * 2);
+        this.shortMessages[this.numShortMessages++] = message;
+    }
+
+
+    /**
+     * Queue a system exclusive message.
+     *
+     * @param data The complete message
+     */
+    public void addSysex (final byte [] data)
+    {
+        this.sysexMessages.add (data);
+    }
+
+
+    /**
+     * Send the queued messages. The short messages are sent first. Messages which exceed the
+     * bandwidth limit are kept. A system exclusive message which is larger than the limit is sent
+     * alone with a batch.
+     *
+     * @param output The output to send the messages to
+     */
+    public void send (final AbstractMidiOutput output)
+    {
+        final int limit = this.bandwidthLimit == 0 ? Integer.MAX_VALUE : this.bandwidthLimit;
+        int sent = 0;
+
+        int index = 0;
+        while (index < this.numShortMessages && sent + SHORT_SIZE <= limit)
+        {
+            final int message = this.shortMessages[index];
+            output.sendMidiShort (message >> 16, message >> 8 & 0xFF, message & 0xFF);
+            index++;
+            sent += SHORT_SIZE;
+        }
+        this.removeShortMessages (index);
+
+        while (!this.sysexMessages.isEmpty ())
+        {
+            final byte [] data = this.sysexMessages.peek ();
+            if (sent > 0 && sent + data.length > limit)
+                break;
+            output.sendSysexMessage (this.sysexMessages.poll ());
+            sent += data.length;
+        }
+    }
+
+
+    /**
+     * Remove the first short messages, which were sent, and update the positions of the remaining
+     * ones.
+     *
+     * @param count The number of sent messages
+     */
+    private void removeShortMessages (final int count)
+    {
+        for (int i = 0; i < count; i++)
+        {
+            final int key = getKey (this.shortMessages[i]);
+            if (this.positions[key] == i)
+                this.positions[key] = NO_POSITION;
+        }
+
+        final int remaining = this.numShortMessages - count;
+        if (remaining > 0)
+        {
+            System.arraycopy (this.shortMessages, count, this.shortMessages, 0, remaining);
+            for (int i = 0; i < remaining; i++)
+            {
+                final int key = getKey (this.shortMessages[i]);
+                if (this.positions[key] == i + count)
+                    this.positions[key] = i;
+            }
+        }
+        this.numShortMessages = remaining;
+    }
+
+
+    /**
+     * Get the target of a message, which is the status byte and the first data byte. The pitchbend
+     * uses both data bytes for its value, therefore only the status byte identifies the target. A
+     * note off addresses the same target as a note on.
+     *
+     * @param message The packed message
+     * @return The key of the target
+     */
+    private static int getKey (final int message)
+    {
+        final int status = message >> 16;
+        switch (status & 0xF0)
+        {
+            case MidiConstants.CMD_PITCHBEND:
+                return status << 8;
+            case MidiConstants.CMD_NOTE_OFF:
+                return (status | MidiConstants.CMD_NOTE_ON) << 8 | message >> 8 & 0xFF;
+            default:
+                return message >> 8;
+        }
+    }
+
+
+    /**
+     * Check if only the latest message to a target is relevant.
+     *
+     * @param status The status byte of the message
+     * @return True if a pending message can be replaced
+     */
+    private static boolean isReplaceable (final int status)
+    {
+        switch (status & 0xF0)
+        {
+            case MidiConstants.CMD_NOTE_OFF, MidiConstants.CMD_NOTE_ON, MidiConstants.CMD_POLY_AFTERTOUCH, MidiConstants.CMD_CC, MidiConstants.CMD_PITCHBEND:
+                return true;
+            default:
+                return false;
+        }
+    }
+}
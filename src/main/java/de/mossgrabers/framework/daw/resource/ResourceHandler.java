@@ -4,10 +4,13 @@
 
 package de.mossgrabers.framework.daw.resource;
 
+import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.graphics.IImage;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 
@@ -18,8 +21,35 @@ import java.util.Map;
  */
 public final class ResourceHandler
 {
-    private static final Map<String, IImage> CACHE = new HashMap<> ();
-    private static IHost                     theHost;
+    private static final int                     TINTED_CACHE_SIZE = 64;
+
+    private static final Map<String, IImage>     CACHE             = new HashMap<> ();
+    private static final Map<TintedKey, IBitmap> TINTED_CACHE      = new LinkedHashMap<> (TINTED_CACHE_SIZE, 0.75f, true)
+    {
+        private static final long serialVersionUID = 1L;
+
+
+        /** {@inheritDoc} */
+        @Override
+        protected boolean removeEldestEntry (final Map.Entry<TintedKey, IBitmap> eldest)
+        {
+            return this.size () > TINTED_CACHE_SIZE;
+        }
+    };
+
+    private static IHost                         theHost;
+
+
+    /**
+     * The key for a tinted image.
+     *
+     * @param image The source image
+     * @param color The color with which the image is masked
+     */
+    private record TintedKey (IImage image, ColorEx color)
+    {
+        // Intentionally empty
+    }
 
 
     /**
@@ -76,6 +106,34 @@ public final class ResourceHandler
     }
 
 
+    /**
+     * Get an image masked with the given color. The result is rendered once into a bitmap and
+     * cached, which is much faster to draw than masking the image every time.
+     *
+     * @param image The image to mask
+     * @param color The color to use for masking
+     * @return The masked image
+     */
+    public static IImage getTintedImage (final IImage image, final ColorEx color)
+    {
+        final TintedKey key = new TintedKey (image, color);
+        synchronized (TINTED_CACHE)
+        {
+            IBitmap bitmap = TINTED_CACHE.get (key);
+            if (bitmap == null)
+            {
+                bitmap = theHost.createBitmap ((int) Math.ceil (image.getWidth ()), image.getHeight ());
+                bitmap.render (true, gc -> {
+                    gc.clear ();
+                    gc.maskImage (image, 0, 0, color);
+                });
+                TINTED_CACHE.put (key, bitmap);
+            }
+            return bitmap;
+        }
+    }
+
+
     /**
      * Load and cache an image.
      *
@@ -7,6 +7,7 @@ import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.data.IItem;
 import de.mossgrabers.framework.parameterprovider.IParameterProvider;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
@@ -32,6 +33,7 @@ public abstract class AbstractMode<S extends IControlSurface<C>, C extends Confi
     protected boolean          isActive;
 
     private boolean []         isKnobTouched;
+    private long               lastDisplayStamp = -1;
 
 
     /**
@@ -56,6 +58,7 @@ public abstract class AbstractMode<S extends IControlSurface<C>, C extends Confi
     public void onActivate ()
     {
         this.isActive = true;
+        this.invalidateDisplay ();
     }
 
 
@@ -75,6 +78,72 @@ public abstract class AbstractMode<S extends IControlSurface<C>, C extends Confi
     }
 
 
+    /**
+     * Get a stamp of all model values on which the display content of the mode depends. Overwrite
+     * to opt in to skipping display updates, e.g. by returning the sum of the modification stamps
+     * of the displayed banks. Since the modification stamps only increase, the sum changes whenever
+     * one of them changes. A change of the mode's own state must be signaled with
+     * {@link #invalidateDisplay()}.
+     *
+     * @return The stamp, -1 if the mode does not declare its dependencies, which means that the
+     *         display is updated on each flush
+     */
+    protected long getDisplayStamp ()
+    {
+        return -1;
+    }
+
+
+    /**
+     * Combine the modification stamp of the displayed model values with the state of the surface
+     * and the configuration, which also affects the display content.
+     *
+     * @param stamp The modification stamp
+     * @param state The state, only the lower 16 bits are used
+     * @return The display stamp, -1 if the stamp is NO_MODIFICATION_STAMP
+     */
+    protected static long combineDisplayStamp (final long stamp, final int state)
+    {
+        if (stamp == IItem.NO_MODIFICATION_STAMP)
+            return -1;
+        return stamp << 16 | state & 0xFFFF;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void updateDisplayIfChanged ()
+    {
+        final long stamp = this.getDisplayStamp ();
+        if (stamp < 0 || stamp != this.lastDisplayStamp)
+        {
+            this.lastDisplayStamp = stamp;
+            this.updateDisplay ();
+        }
+        else
+            this.repeatDisplay ();
+    }
+
+
+    /**
+     * Called instead of updateDisplay if the display content has not changed. Overwrite if the
+     * display needs to be sent again, e.g. to show a notification message.
+     */
+    protected void repeatDisplay ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Force the display content to be rebuilt on the next flush.
+     */
+    public void invalidateDisplay ()
+    {
+        this.lastDisplayStamp = -1;
+    }
+
+
     /**
      * Get if absolute or relative value changing is enabled for the mode.
      *
@@ -145,7 +214,10 @@ public abstract class AbstractMode<S extends IControlSurface<C>, C extends Confi
     @Override
     public void setTouchedKnob (final int knobIndex, final boolean isTouched)
     {
+        if (this.isKnobTouched[knobIndex] == isTouched)
+            return;
         this.isKnobTouched[knobIndex] = isTouched;
+        this.invalidateDisplay ();
     }
 
 
@@ -17,6 +17,7 @@ import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.ContinuousID;
 import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.controller.hardware.IHwButton;
+import de.mossgrabers.framework.controller.hardware.IHwContinuousControl;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.IItem;
 import de.mossgrabers.framework.daw.data.bank.IBank;
@@ -49,6 +50,9 @@ public abstract class AbstractParameterMode<S extends IControlSurface<C>, C exte
     protected IBank<B>                          bank;
     protected List<ContinuousID>                controls;
 
+    private final Map<ContinuousID, IParameter> boundParameters    = new EnumMap<> (ContinuousID.class);
+    private int                                 skippedRebinds     = 0;
+
 
     /**
      * Constructor.
@@ -388,7 +392,8 @@ public abstract class AbstractParameterMode<S extends IControlSurface<C>, C exte
 
 
     /**
-     * Update the binding to the parameter bank controlled by this mode.
+     * Update the binding to the parameter bank controlled by this mode. Only controls whose
+     * parameter has changed are re-bound.
      */
     protected void bindControls ()
     {
@@ -397,10 +402,41 @@ public abstract class AbstractParameterMode<S extends IControlSurface<C>, C exte
 
         final IParameterProvider parameterProvider = this.getParameterProvider ();
         for (int i = 0; i < this.controls.size (); i++)
+            this.bindControl (this.controls.get (i), parameterProvider.get (i));
+    }
+
+
+    /**
+     * Bind a parameter to a continuous control. Re-binding a control in the DAW is expensive,
+     * therefore nothing is done if the control is already bound to the same parameter.
+     *
+     * @param controlID The ID of the control
+     * @param parameter The parameter to bind
+     */
+    protected void bindControl (final ContinuousID controlID, final IParameter parameter)
+    {
+        final IHwContinuousControl control = this.surface.getContinuous (controlID);
+        // The control might have been re-bound from somewhere else in the meantime
+        if (parameter != null && this.boundParameters.get (controlID) == parameter && control.getParameter () == parameter)
         {
-            final IParameter parameter = parameterProvider.get (i);
-            this.surface.getContinuous (this.controls.get (i)).bind (parameter);
+            this.skippedRebinds++;
+            return;
         }
+
+        control.bind (parameter);
+        this.boundParameters.put (controlID, parameter);
+    }
+
+
+    /**
+     * Get the number of bindings which were skipped since the control was already bound to the
+     * parameter.
+     *
+     * @return The number of skipped re-bindings
+     */
+    public int getSkippedRebinds ()
+    {
+        return this.skippedRebinds;
     }
 
 
@@ -438,5 +474,6 @@ public abstract class AbstractParameterMode<S extends IControlSurface<C>, C exte
 
         for (final ContinuousID controlID: this.controls)
             this.surface.getContinuous (controlID).bind ((IParameter) null);
+        this.boundParameters.clear ();
     }
 }
\ No newline at end of file
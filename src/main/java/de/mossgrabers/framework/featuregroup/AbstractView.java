@@ -85,7 +85,7 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     {
         final IMode m = this.surface.getModeManager ().getActive ();
         if (m != null)
-            m.updateDisplay ();
+            m.updateDisplayIfChanged ();
         final IView v = this.surface.getViewManager ().getActive ();
         if (v != null)
             this.displayChord ();
@@ -110,7 +110,8 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
 
     protected String getChordName ()
     {
-        return ChordIdentifier.identifyChord (this.keyManager.getMidiNotesFromPressedKeys ());
+        final int lowestNote = this.keyManager.getLowestPressedMidiNote ();
+        return ChordIdentifier.identifyChord (this.keyManager.getPressedPitchClassMask (), lowestNote < 0 ? -1 : lowestNote % 12);
     }
 
 
@@ -11,6 +11,7 @@ import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.Supplier;
 
 
 /**
@@ -24,6 +25,7 @@ import java.util.Map.Entry;
 public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
 {
     protected final Map<E, F>                         featureGroups;
+    private final Map<E, Supplier<F>>                 factories;
 
     protected E                                       activeID          = null;
     protected E                                       previousID        = null;
@@ -42,6 +44,7 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
     public FeatureGroupManager (final Class<E> clazz)
     {
         this.featureGroups = new EnumMap<> (clazz);
+        this.factories = new EnumMap<> (clazz);
     }
 
 
@@ -53,24 +56,65 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
      */
     public void register (final E featureGroupId, final F featureGroup)
     {
+        this.factories.remove (featureGroupId);
         this.featureGroups.put (featureGroupId, featureGroup);
     }
 
 
     /**
-     * Get the feature group with the given ID.
+     * Register a factory for a feature group. The feature group is created and registered when it
+     * is accessed for the first time (e.g. when it is activated), which keeps rarely used feature
+     * groups out of the startup. Since objects in the DAW can only be created during the
+     * initialization, the factory must only use objects of the model which already exist.
+     *
+     * @param featureGroupId The ID of the feature group to register
+     * @param factory Creates the feature group
+     */
+    public void registerLazy (final E featureGroupId, final Supplier<F> factory)
+    {
+        this.featureGroups.remove (featureGroupId);
+        this.factories.put (featureGroupId, factory);
+    }
+
+
+    /**
+     * Get the feature group with the given ID. Creates the feature group if it was registered with
+     * a factory and was not accessed before.
      *
      * @param featureGroupId An ID
      * @return The feature group or null if no feature group with that ID is registered
      */
     public F get (final E featureGroupId)
     {
-        return this.featureGroups.get (featureGroupId);
+        final F featureGroup = this.featureGroups.get (featureGroupId);
+        if (featureGroup != null || featureGroupId == null)
+            return featureGroup;
+
+        final Supplier<F> factory = this.factories.get (featureGroupId);
+        if (factory == null)
+            return null;
+        final F createdFeatureGroup = factory.get ();
+        this.register (featureGroupId, createdFeatureGroup);
+        return createdFeatureGroup;
     }
 
 
     /**
-     * Get the feature group with the given name.
+     * Check if a feature group is registered with the given ID. Does not create the feature group
+     * if it was registered with a factory.
+     *
+     * @param featureGroupId An ID
+     * @return True if registered
+     */
+    public boolean isRegistered (final E featureGroupId)
+    {
+        return this.featureGroups.containsKey (featureGroupId) || this.factories.containsKey (featureGroupId);
+    }
+
+
+    /**
+     * Get the feature group with the given name. Since the name is only known after creation, all
+     * feature groups which were registered with a factory are created if no created one matches.
      *
      * @param featureGroupName The name of a feature group
      * @return The feature group or null if no feature group with that name is registered
@@ -82,6 +126,12 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
             if (featureGroupName.equals (entry.getValue ().getName ()))
                 return entry.getKey ();
         }
+
+        for (final E featureGroupId: new ArrayList<> (this.factories.keySet ()))
+        {
+            if (featureGroupName.equals (this.get (featureGroupId).getName ()))
+                return featureGroupId;
+        }
         return null;
     }
 
@@ -257,7 +307,7 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
     public F getActive ()
     {
         final E featureGroupID = this.getActiveID ();
-        return featureGroupID == null ? null : this.featureGroups.get (featureGroupID);
+        return featureGroupID == null ? null : this.get (featureGroupID);
     }
 
 
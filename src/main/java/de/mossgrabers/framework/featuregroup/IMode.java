@@ -26,6 +26,13 @@ public interface IMode extends IFeatureGroup
     void updateDisplay ();
 
 
+    /**
+     * Update the display only if any of the values on which its content depends has changed since
+     * the last update.
+     */
+    void updateDisplayIfChanged ();
+
+
     /**
      * A knob has been used.
      *
@@ -9,7 +9,7 @@ package de.mossgrabers.framework.graphics;
  *
  * @author Jürgen Moßgraber
  */
-public interface IBitmap
+public interface IBitmap extends IImage
 {
     /**
      * Set a title for the window, which displays the Bitmap.
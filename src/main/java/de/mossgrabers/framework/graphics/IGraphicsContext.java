@@ -198,6 +198,12 @@ public interface IGraphicsContext
     void maskImage (IImage image, double x, double y, final ColorEx maskColor);
 
 
+    /**
+     * Clear the whole drawing area to full transparency.
+     */
+    void clear ();
+
+
     /**
      * Draw a line.
      *
@@ -344,7 +344,7 @@ public class ChannelComponent extends ChannelSelectComponent
             gc.fillGradientRoundedRectangle (left + 1, top + 1, width - 2, height - 2, radius, backgroundColor, ColorEx.brighter (backgroundColor));
 
         final IImage icon = ResourceHandler.getSVGImage (iconName);
-        gc.maskImage (icon, left + (width - icon.getWidth ()) / 2, top + (height - icon.getHeight ()) / 2, isOn ? borderColor : textColor);
+        gc.drawImage (ResourceHandler.getTintedImage (icon, isOn ? borderColor : textColor), left + (width - icon.getWidth ()) / 2, top + (height - icon.getHeight ()) / 2);
     }
 
 
@@ -160,7 +160,7 @@ public class LabelComponent implements IComponent
             {
                 if (this.isSelected)
                     maskColor = ColorEx.calcContrastColor (maskColor);
-                gc.maskImage (image, leftColumn, y, this.modifyIfOff (maskColor));
+                gc.drawImage (ResourceHandler.getTintedImage (image, this.modifyIfOff (maskColor)), leftColumn, y);
             }
         }
 
@@ -11,26 +11,24 @@ import de.mossgrabers.framework.utils.StringUtils;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 
 /**
- * Base class for sending OSC messages to an OSC server.
+ * Base class for sending OSC messages to one or more OSC servers (subscribers). Each subscriber
+ * only receives the messages of the addresses it has subscribed to.
  *
  * @author Jürgen Moßgraber
  */
 public abstract class AbstractOpenSoundControlWriter implements IOpenSoundControlWriter
 {
-    protected final IHost                          host;
-    protected final IModel                         model;
-    protected final IOpenSoundControlConfiguration configuration;
+    protected final IHost                            host;
+    protected final IModel                           model;
+    protected final IOpenSoundControlConfiguration   configuration;
 
-    protected final IOpenSoundControlClient        oscClient;
-    protected final Map<String, Object>            oldValues = new HashMap<> ();
-
-    private final List<IOpenSoundControlMessage>   messages  = new ArrayList<> ();
+    protected final List<OpenSoundControlSubscriber> subscribers = new CopyOnWriteArrayList<> ();
 
 
     /**
@@ -38,15 +36,78 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
      *
      * @param host The host
      * @param model The model
-     * @param oscClient The OSC client to write to
+     * @param oscClient The OSC client to write to, it is subscribed to all addresses, might be null
+     * @param clientName The name of the client, e.g. 'host:port'
      * @param configuration The OSC configuration
      */
-    protected AbstractOpenSoundControlWriter (final IHost host, final IModel model, final IOpenSoundControlClient oscClient, final IOpenSoundControlConfiguration configuration)
+    protected AbstractOpenSoundControlWriter (final IHost host, final IModel model, final IOpenSoundControlClient oscClient, final String clientName, final IOpenSoundControlConfiguration configuration)
     {
         this.host = host;
         this.model = model;
-        this.oscClient = oscClient;
         this.configuration = configuration;
+
+        if (oscClient != null)
+            this.addSubscriber (clientName, oscClient).subscribe ("/");
+    }
+
+
+    /**
+     * Add a subscriber. It does not receive any messages until it subscribes to addresses. If
+     * there is already a subscriber with the same name it is returned.
+     *
+     * @param name The name of the subscriber, e.g. 'host:port'
+     * @param oscClient The OSC client to write to
+     * @return The subscriber
+     */
+    public synchronized OpenSoundControlSubscriber addSubscriber (final String name, final IOpenSoundControlClient oscClient)
+    {
+        final Optional<OpenSoundControlSubscriber> existing = this.getSubscriber (name);
+        if (existing.isPresent ())
+            return existing.get ();
+        final OpenSoundControlSubscriber subscriber = new OpenSoundControlSubscriber (name, oscClient);
+        this.subscribers.add (subscriber);
+        return subscriber;
+    }
+
+
+    /**
+     * Remove a subscriber.
+     *
+     * @param name The name of the subscriber
+     */
+    public synchronized void removeSubscriber (final String name)
+    {
+        this.subscribers.removeIf (subscriber -> subscriber.getName ().equals (name));
+    }
+
+
+    /**
+     * Get a subscriber.
+     *
+     * @param name The name of the subscriber
+     * @return The subscriber if present
+     */
+    public Optional<OpenSoundControlSubscriber> getSubscriber (final String name)
+    {
+        for (final OpenSoundControlSubscriber subscriber: this.subscribers)
+        {
+            if (subscriber.getName ().equals (name))
+                return Optional.of (subscriber);
+        }
+        return Optional.empty ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isSubscribed (final String addressPrefix)
+    {
+        for (final OpenSoundControlSubscriber subscriber: this.subscribers)
+        {
+            if (subscriber.isSubtreeSubscribed (addressPrefix))
+                return true;
+        }
+        return false;
     }
 
 
@@ -67,28 +128,27 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
      */
     public void flush (final String updateAddress)
     {
-        if (this.messages.isEmpty ())
-            return;
-
-        synchronized (this.messages)
+        for (final OpenSoundControlSubscriber subscriber: this.subscribers)
         {
+            final List<IOpenSoundControlMessage> messages = subscriber.takeMessages ();
+            if (messages.isEmpty ())
+                continue;
+
             try
             {
                 if (updateAddress != null)
                 {
-                    this.messages.add (0, this.host.createOSCMessage (updateAddress, Collections.singletonList (Integer.valueOf (1))));
-                    this.messages.add (this.host.createOSCMessage (updateAddress, Collections.singletonList (Integer.valueOf (0))));
+                    messages.add (0, this.host.createOSCMessage (updateAddress, Collections.singletonList (Integer.valueOf (1))));
+                    messages.add (this.host.createOSCMessage (updateAddress, Collections.singletonList (Integer.valueOf (0))));
                 }
 
-                this.logMessages (this.messages);
-                this.oscClient.sendBundle (this.messages);
+                this.logMessages (messages);
+                subscriber.getClient ().sendBundle (messages);
             }
             catch (final IOException ex)
             {
-                this.model.getHost ().error ("Could not send UDP message.", ex);
+                this.model.getHost ().error ("Could not send UDP message to " + subscriber.getName () + ".", ex);
             }
-
-            this.messages.clear ();
         }
     }
 
@@ -191,34 +251,38 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
      */
     protected void sendOSC (final String cacheAddress, final String address, final Object testValue, final Object value, final boolean dump)
     {
-        if (!dump && compareValues (this.oldValues.get (cacheAddress), testValue))
-            return;
-        this.oldValues.put (cacheAddress, testValue);
-
-        // Convert the value to a list in case it is not already one
-        final List<?> list;
-        if (value instanceof final List<?> l)
-            list = l;
-        else if (value instanceof final Boolean booleanValue)
-            list = Collections.singletonList (Integer.valueOf (booleanValue.booleanValue () ? 1 : 0));
-        else
-            list = Collections.singletonList (value);
-
-        synchronized (this.messages)
+        // The message is shared by all subscribers which need it
+        IOpenSoundControlMessage message = null;
+        for (final OpenSoundControlSubscriber subscriber: this.subscribers)
         {
-            this.messages.add (this.host.createOSCMessage (address, list));
+            if (!subscriber.needsUpdate (cacheAddress, address, testValue, dump))
+                continue;
+
+            if (message == null)
+            {
+                // Convert the value to a list in case it is not already one
+                final List<?> list;
+                if (value instanceof final List<?> l)
+                    list = l;
+                else if (value instanceof final Boolean booleanValue)
+                    list = Collections.singletonList (Integer.valueOf (booleanValue.booleanValue () ? 1 : 0));
+                else
+                    list = Collections.singletonList (value);
+                message = this.host.createOSCMessage (address, list);
+            }
+            subscriber.queue (cacheAddress, testValue, message);
         }
     }
 
 
     /**
-     * Check if the client is connected.
+     * Check if there is at least one connected client.
      *
      * @return True if connected
      */
     protected boolean isConnected ()
     {
-        return this.oscClient != null;
+        return !this.subscribers.isEmpty ();
     }
 
 
@@ -19,6 +19,16 @@ public interface IOpenSoundControlWriter
     void flush (boolean dump);
 
 
+    /**
+     * Test if any client is subscribed to at least one address of the address sub-tree with the
+     * given prefix. Use it to skip the calculation of values which no client wants to receive.
+     *
+     * @param addressPrefix The prefix of the addresses, e.g. '/track/1/'
+     * @return True if subscribed
+     */
+    boolean isSubscribed (String addressPrefix);
+
+
     /**
      * Adds the message to the queue and calls flush.
      *
@@ -0,0 +1,232 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2026
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * An OSC client which receives only the messages of the addresses it has subscribed to. A
+ * subscription is an address pattern like '/track/*&#47;volume' where '*' matches exactly one part
+ * of the address. A pattern matches all addresses which start with the pattern, e.g. '/device'
+ * matches all device messages and '/' matches everything. Each subscriber has its own cache of the
+ * sent values and its own queue of messages to send.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class OpenSoundControlSubscriber
+{
+    private static final String                  WILDCARD  = "*";
+
+    private final String                         name;
+    private final IOpenSoundControlClient        client;
+    private final List<String []>                patterns  = new ArrayList<> ();
+    private final Map<String, Boolean>           matches   = new HashMap<> ();
+    private final Map<String, Object>            oldValues = new HashMap<> ();
+    private final List<IOpenSoundControlMessage> messages  = new ArrayList<> ();
+
+
+    /**
+     * Constructor.
+     *
+     * @param name The name of the subscriber, e.g. 'host:port'
+     * @param client The OSC client to send the messages to
+     */
+    public OpenSoundControlSubscriber (final String name, final IOpenSoundControlClient client)
+    {
+        this.name = name;
+        this.client = client;
+    }
+
+
+    /**
+     * Get the name of the subscriber.
+     *
+     * @return The name
+     */
+    public String getName ()
+    {
+        return this.name;
+    }
+
+
+    /**
+     * Get the OSC client.
+     *
+     * @return The client
+     */
+    public IOpenSoundControlClient getClient ()
+    {
+        return this.client;
+    }
+
+
+    /**
+     * Subscribe to an address pattern. Clears the value cache, so that all values of the new
+     * subscription are sent with the next flush.
+     *
+     * @param pattern The address pattern
+     */
+    public synchronized void subscribe (final String pattern)
+    {
+        final String [] parts = splitPattern (pattern);
+        for (final String [] p: this.patterns)
+        {
+            if (Arrays.equals (p, parts))
+                return;
+        }
+        this.patterns.add (parts);
+        this.matches.clear ();
+        this.oldValues.clear ();
+    }
+
+
+    /**
+     * Remove the subscription of an address pattern.
+     *
+     * @param pattern The address pattern
+     */
+    public synchronized void unsubscribe (final String pattern)
+    {
+        final String [] parts = splitPattern (pattern);
+        if (this.patterns.removeIf (p -> Arrays.equals (p, parts)))
+            this.matches.clear ();
+    }
+
+
+    /**
+     * Remove all subscriptions.
+     */
+    public synchronized void unsubscribeAll ()
+    {
+        this.patterns.clear ();
+        this.matches.clear ();
+    }
+
+
+    /**
+     * Test if the subscriber wants to receive the message with the given address.
+     *
+     * @param address The OSC address of a message
+     * @return True if at least one pattern matches
+     */
+    public synchronized boolean isSubscribed (final String address)
+    {
+        return this.matches.computeIfAbsent (address, a -> Boolean.valueOf (this.matchesAny (a, false))).booleanValue ();
+    }
+
+
+    /**
+     * Test if the subscriber wants to receive any message of the address sub-tree with the given
+     * prefix.
+     *
+     * @param addressPrefix The prefix of the addresses, e.g. '/track/1/'
+     * @return True if at least one pattern matches an address in the sub-tree
+     */
+    public synchronized boolean isSubtreeSubscribed (final String addressPrefix)
+    {
+        return this.matchesAny (addressPrefix, true);
+    }
+
+
+    /**
+     * Test if the value of the given message needs to be sent to this subscriber.
+     *
+     * @param cacheAddress The address under which the message is cached
+     * @param address The address of the OSC message
+     * @param testValue The value(s) to use for testing
+     * @param dump True to dump (ignore cache)
+     * @return True if the message needs to be sent
+     */
+    synchronized boolean needsUpdate (final String cacheAddress, final String address, final Object testValue, final boolean dump)
+    {
+        return this.isSubscribed (address) && (dump || !AbstractOpenSoundControlWriter.compareValues (this.oldValues.get (cacheAddress), testValue));
+    }
+
+
+    /**
+     * Queue a message and cache its value.
+     *
+     * @param cacheAddress The address under which to cache the message
+     * @param testValue The value(s) to cache
+     * @param message The message to queue
+     */
+    synchronized void queue (final String cacheAddress, final Object testValue, final IOpenSoundControlMessage message)
+    {
+        this.oldValues.put (cacheAddress, testValue);
+        this.messages.add (message);
+    }
+
+
+    /**
+     * Get and remove all queued messages.
+     *
+     * @return The messages, empty if there are none
+     */
+    synchronized List<IOpenSoundControlMessage> takeMessages ()
+    {
+        if (this.messages.isEmpty ())
+            return List.of ();
+        final List<IOpenSoundControlMessage> result = new ArrayList<> (this.messages);
+        this.messages.clear ();
+        return result;
+    }
+
+
+    private boolean matchesAny (final String address, final boolean isPrefix)
+    {
+        for (final String [] pattern: this.patterns)
+        {
+            if (matches (pattern, address, isPrefix))
+                return true;
+        }
+        return false;
+    }
+
+
+    /**
+     * Match an address against a pattern part by part without splitting the address.
+     *
+     * @param pattern The parts of the pattern
+     * @param address The address
+     * @param isPrefix If true the address is only the beginning of an address and it is
+     *            sufficient that it matches the beginning of the pattern
+     * @return True if it matches
+     */
+    private static boolean matches (final String [] pattern, final String address, final boolean isPrefix)
+    {
+        final int length = address.length ();
+        int pos = address.startsWith ("/") ? 1 : 0;
+        for (final String part: pattern)
+        {
+            if (pos >= length)
+                return isPrefix;
+
+            int end = address.indexOf ('/', pos);
+            if (end < 0)
+                end = length;
+            if (!WILDCARD.equals (part) && (end - pos != part.length () || !address.regionMatches (pos, part, 0, part.length ())))
+                return false;
+            pos = end + 1;
+        }
+        return true;
+    }
+
+
+    private static String [] splitPattern (final String pattern)
+    {
+        final List<String> parts = new ArrayList<> ();
+        for (final String part: pattern.trim ().split ("/"))
+        {
+            if (!part.isEmpty ())
+                parts.add (part);
+        }
+        return parts.toArray (new String [parts.size ()]);
+    }
+}
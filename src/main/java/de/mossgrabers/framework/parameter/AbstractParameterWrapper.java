@@ -85,6 +85,14 @@ public abstract class AbstractParameterWrapper implements IParameter
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean isChangeSizeApplied ()
+    {
+        return this.parameter.isChangeSizeApplied ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void resetValue ()
@@ -243,4 +251,12 @@ public abstract class AbstractParameterWrapper implements IParameter
     {
         return this.parameter.getNumberOfSteps ();
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public long getModificationStamp ()
+    {
+        return this.parameter.getModificationStamp ();
+    }
 }
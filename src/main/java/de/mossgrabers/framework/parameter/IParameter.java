@@ -98,6 +98,18 @@ public interface IParameter extends IItem
     void changeValue (IValueChanger valueChanger, int value);
 
 
+    /**
+     * Does changeValue apply the size of the change? If not, each call moves the value by one step
+     * (e.g. the tempo or a list selection), therefore several changes must not be merged into one.
+     *
+     * @return True if the size of the change is applied
+     */
+    default boolean isChangeSizeApplied ()
+    {
+        return false;
+    }
+
+
     /**
      * Reset the value to its default value.
      */
@@ -103,6 +103,14 @@ public class StaticPercentageParameter extends AbstractStaticParameter
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean isChangeSizeApplied ()
+    {
+        return true;
+    }
+
+
     /** {@inheritDoc} **/
     @Override
     public void resetValue ()
@@ -6,6 +6,7 @@ package de.mossgrabers.framework.scale;
 
 import java.util.Arrays;
 import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -17,7 +18,8 @@ import de.mossgrabers.framework.scale.ScaleGrid.Orientation;
 /**
  * Helper class for applying scales to a row x column pad grid. There are different layouts
  * available including transpositions by octaves. Furthermore, specific matrices are supported for a
- * drum, a piano and a sequencer layout.
+ * drum, a piano and a sequencer layout. The calculated note matrices are cached and shared, therefore
+ * they must not be modified by the caller.
  *
  * @author Jürgen Moßgraber
  */
@@ -98,6 +100,12 @@ public class Scales
     /** Number of lower drum octave limit. */
     public static final int             DRUM_OCTAVE_LOWER        = -2;
 
+    private static final int            MATRIX_CACHE_SIZE        = 64;
+    private static final int            MATRIX_TYPE_NOTE         = 0;
+    private static final int            MATRIX_TYPE_SEQUENCER    = 1;
+    private static final int            MATRIX_TYPE_PIANO        = 2;
+    private static final int            MATRIX_TYPE_DRUM         = 3;
+
     private Scale                       selectedScale            = Scale.MAJOR;
     private int                         scaleOffset              = 0;                                                                        // C
     private ScaleLayout                 scaleLayout              = ScaleLayout.FOURTH_UP;
@@ -123,6 +131,19 @@ public class Scales
     private final Map<Scale, ChordGrid> chordGrids               = new EnumMap<> (Scale.class);
     private final IValueChanger         valueChanger;
 
+    private final Map<MatrixKey, int []> matrixCache            = new LinkedHashMap<> (MATRIX_CACHE_SIZE, 0.75f, true)
+    {
+        private static final long serialVersionUID = 1L;
+
+
+        /** {@inheritDoc} */
+        @Override
+        protected boolean removeEldestEntry (final Map.Entry<MatrixKey, int []> eldest)
+        {
+            return this.size () > MATRIX_CACHE_SIZE;
+        }
+    };
+
 
     /**
      * Constructor.
@@ -858,7 +879,7 @@ public class Scales
     /**
      * Get the active note matrix.
      *
-     * @return The matrix
+     * @return The matrix, must not be modified
      */
     public int [] getNoteMatrix ()
     {
@@ -870,9 +891,17 @@ public class Scales
      * Get a note matrix.
      *
      * @param matrix The input scale matrix
-     * @return The matrix
+     * @return The matrix, must not be modified
      */
     public int [] getNoteMatrix (final int [] matrix)
+    {
+        // The input matrix already reflects the scale, layout and chromatic setting
+        final MatrixKey key = new MatrixKey (MATRIX_TYPE_NOTE, matrix, this.scaleOffset, this.octave, this.startNote, this.endNote);
+        return this.matrixCache.computeIfAbsent (key, k -> this.createNoteMatrix (matrix));
+    }
+
+
+    private int [] createNoteMatrix (final int [] matrix)
     {
         final int [] noteMap = Scales.getEmptyMatrix ();
         for (int note = this.startNote; note < this.endNote; note++)
@@ -889,9 +918,17 @@ public class Scales
      *
      * @param length The expected length
      * @param noteOffset An offset to add to the notes
-     * @return The matrix
+     * @return The matrix, must not be modified
      */
     public int [] getSequencerMatrix (final int length, final int noteOffset)
+    {
+        final int scaleIndex = this.isChromatic () ? -1 : this.selectedScale.ordinal ();
+        final MatrixKey key = new MatrixKey (MATRIX_TYPE_SEQUENCER, null, scaleIndex, this.scaleOffset, length, noteOffset);
+        return this.matrixCache.computeIfAbsent (key, k -> this.createSequencerMatrix (length, noteOffset));
+    }
+
+
+    private int [] createSequencerMatrix (final int length, final int noteOffset)
     {
         final int [] noteMap = new int [length];
         if (this.isChromatic ())
@@ -927,9 +964,16 @@ public class Scales
      *
      * @param rows The number of rows
      * @param columns The number of columns
-     * @return The matrix
+     * @return The matrix, must not be modified
      */
     public int [] getPianoMatrix (final int rows, final int columns)
+    {
+        final MatrixKey key = new MatrixKey (MATRIX_TYPE_PIANO, null, this.pianoOctave, this.startNote, rows, columns);
+        return this.matrixCache.computeIfAbsent (key, k -> this.createPianoMatrix (rows, columns));
+    }
+
+
+    private int [] createPianoMatrix (final int rows, final int columns)
     {
         int octaveOffset = 3 + this.pianoOctave;
         int counter = this.startNote;
@@ -985,9 +1029,16 @@ public class Scales
     /**
      * Get the drum matrix.
      *
-     * @return The drum matrix
+     * @return The drum matrix, must not be modified
      */
     public int [] getDrumMatrix ()
+    {
+        final MatrixKey key = new MatrixKey (MATRIX_TYPE_DRUM, this.drumMatrix, this.drumOffset, this.drumNoteStart, this.drumNoteEnd, 0);
+        return this.matrixCache.computeIfAbsent (key, k -> this.createDrumMatrix ());
+    }
+
+
+    private int [] createDrumMatrix ()
     {
         final int [] noteMap = Scales.getEmptyMatrix ();
         for (int note = this.drumNoteStart; note < this.drumNoteEnd; note++)
@@ -1162,6 +1213,7 @@ public class Scales
      */
     private void generateMatrices ()
     {
+        this.matrixCache.clear ();
         this.scaleGrids.clear ();
         this.chordGrids.clear ();
         for (final Scale scale: Scale.values ())
@@ -1250,4 +1302,50 @@ public class Scales
     {
         return this.defaultOctave;
     }
-}
\ No newline at end of file
+
+
+    /**
+     * Key for the cache of the calculated note matrices. The source matrix is compared by identity
+     * since the scale and chord grid matrices are re-created whenever their layout changes.
+     *
+     * @param type The type of the matrix
+     * @param source The source matrix from which the note matrix is calculated, might be null
+     * @param param1 The 1st parameter, which was used to calculate the matrix
+     * @param param2 The 2nd parameter, which was used to calculate the matrix
+     * @param param3 The 3rd parameter, which was used to calculate the matrix
+     * @param param4 The 4th parameter, which was used to calculate the matrix
+     */
+    private record MatrixKey (int type, int [] source, int param1, int param2, int param3, int param4)
+    {
+        /** {@inheritDoc} */
+        @Override
+        public boolean equals (final Object obj)
+        {
+            if (this == obj)
+                return true;
+            if (!(obj instanceof final MatrixKey other))
+                return false;
+            return this.type == other.type && this.source == other.source && this.param1 == other.param1 && this.param2 == other.param2 && this.param3 == other.param3 && this.param4 == other.param4;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public int hashCode ()
+        {
+            int result = 31 * this.type + System.identityHashCode (this.source);
+            result = 31 * result + this.param1;
+            result = 31 * result + this.param2;
+            result = 31 * result + this.param3;
+            return 31 * result + this.param4;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public String toString ()
+        {
+            return "MatrixKey [type=" + this.type + ", param1=" + this.param1 + ", param2=" + this.param2 + ", param3=" + this.param3 + ", param4=" + this.param4 + "]";
+        }
+    }
+}
@@ -27,15 +27,36 @@ public interface IHidDevice
      * for explanation about numbered reports) the reportID needs to be specified otherwise pass
      * zero there. This method may or may not block. The method returning is no guarantee that the
      * data has been physically transmitted from the host to the device. The method returns the
-     * actual number of bytes successfully scheduled to be sent to the device.
+     * actual number of bytes successfully scheduled to be sent to the device. A report which is
+     * identical to the last one sent with the same report ID or which is sent before the minimum
+     * interval of the report ID has passed is not sent.
      *
      * @param reportID The report (= function/method) number
      * @param memoryBlock The memory block with the data to send
-     * @return The number of bytes scheduled for transmission or -1 if the call failed
+     * @return The number of bytes scheduled for transmission, 0 if the report was suppressed or -1
+     *         if the call failed
      */
     int sendOutputReport (byte reportID, IMemoryBlock memoryBlock);
 
 
+    /**
+     * Set the minimum time which needs to pass between two output reports with the same report ID.
+     * Reports which are sent earlier are dropped, therefore the caller needs to send the report
+     * again later (e.g. on the next flush).
+     *
+     * @param reportID The report (= function/method) number
+     * @param interval The minimum interval in milliseconds, 0 to send without a limit (default)
+     */
+    void setMinimumReportInterval (byte reportID, int interval);
+
+
+    /**
+     * Forget the data of all output reports which were sent last. The next report of each report
+     * ID is sent even if it is identical to the previous one, e.g. after the device was reset.
+     */
+    void clearReportCache ();
+
+
     /**
      * This method sends a feature report to the device. See the USB HID specification for more
      * information. This method may or may not block. The method returning is no guarantee that the
@@ -4,286 +4,240 @@
 
 package de.mossgrabers.framework.utils;
 
-import java.util.Arrays;
 import java.util.List;
 
 import de.mossgrabers.framework.scale.Scales;
 
 
 /**
- * Identifies the names of chords from a list of notes.
+ * Identifies the names of chords from a list of notes. The notes are reduced to a set of pitch
+ * classes which is encoded as a 12-bit mask (bit 0 is C, bit 11 is B). All 4096 possible masks are
+ * resolved once into a lookup table, which contains the known chords in all their inversions as
+ * well as the best matching chord for masks which contain additional notes.
  *
  * @author Jürgen Moßgraber
  */
 public class ChordIdentifier
 {
-    private static final Chord [] CHORDS = new Chord []
-    {
-        new Chord ("C Major", 0, 4, 7),
-        new Chord ("C# Major", 1, 5, 8),
-        new Chord ("D Major", 2, 6, 9),
-        new Chord ("D# Major", 3, 7, 10),
-        new Chord ("E Major", 4, 8, 11),
-        new Chord ("F Major", 0, 5, 9),
-        new Chord ("F# Major", 1, 6, 10),
-        new Chord ("G Major", 2, 7, 11),
-        new Chord ("G# Major", 0, 3, 8),
-        new Chord ("A Major", 1, 4, 9),
-        new Chord ("A# Major", 2, 5, 10),
-        new Chord (" B Major", 3, 6, 11),
-
-        new Chord ("C Minor", 0, 3, 7),
-        new Chord ("C# Minor", 1, 4, 8),
-        new Chord ("D Minor", 2, 5, 9),
-        new Chord ("D# Minor", 3, 6, 10),
-        new Chord ("E Minor", 4, 7, 11),
-        new Chord ("F Minor", 0, 5, 8),
-        new Chord ("F# Minor", 1, 6, 9),
-        new Chord ("G Minor", 2, 7, 10),
-        new Chord ("G# Minor", 3, 8, 11),
-        new Chord ("A Minor", 0, 4, 9),
-        new Chord ("A# Minor", 1, 5, 10),
-        new Chord ("B Minor", 2, 6, 11),
+    private static final int         NUM_MASKS          = 1 << 12;
+    private static final int         MAX_ADDED_NOTES    = 2;
 
-        new Chord ("C Diminished", 0, 3, 6),
-        new Chord ("C# Diminished", 1, 4, 7),
-        new Chord ("D Diminished", 2, 5, 8),
-        new Chord ("D# Diminished", 3, 6, 9),
-        new Chord ("E Diminished", 4, 7, 10),
-        new Chord ("F Diminished", 5, 8, 11),
-        new Chord ("F# Diminished", 0, 6, 9),
-        new Chord ("G Diminished", 1, 7, 10),
-        new Chord ("G# Diminished", 2, 8, 11),
-        new Chord ("A Diminished", 0, 3, 9),
-        new Chord ("A# Diminished", 1, 4, 10),
-        new Chord ("B Diminished", 2, 5, 11),
-
-        new Chord ("C Augmented", 0, 4, 8),
-        new Chord ("C# Augmented", 1, 5, 9),
-        new Chord ("D Augmented", 2, 6, 10),
-        new Chord ("D# Augmented", 3, 7, 11),
-        new Chord ("E Augmented", 0, 4, 8),
-        new Chord ("F Augmented", 1, 5, 9),
-        new Chord ("F# Augmented", 2, 6, 10),
-        new Chord ("G Augmented", 3, 7, 11),
-        new Chord ("G# Augmented", 0, 4, 8),
-        new Chord ("A Augmented", 1, 5, 9),
-        new Chord ("A# Augmented", 2, 6, 10),
-        new Chord ("B Augmented", 3, 7, 11),
+    private static final String []   ROOT_NAMES         =
+    {
+        "C",
+        "C#",
+        "D",
+        "D#",
+        "E",
+        "F",
+        "F#",
+        "G",
+        "G#",
+        "A",
+        "A#",
+        "B"
+    };
 
-        new Chord ("C Major 7th", 0, 4, 7, 11),
-        new Chord ("C# Major 7th", 0, 1, 5, 8),
-        new Chord ("D Major 7th", 1, 2, 6, 9),
-        new Chord ("D# Major 7th", 2, 3, 7, 10),
-        new Chord ("E Major 7th", 3, 4, 8, 11),
-        new Chord ("F Major 7th", 0, 4, 5, 9),
-        new Chord ("F# Major 7th", 1, 5, 6, 10),
-        new Chord ("G Major 7th", 2, 6, 7, 11),
-        new Chord ("G# Major 7th", 0, 3, 7, 8),
-        new Chord ("A Major 7th", 1, 4, 8, 9),
-        new Chord ("A# Major 7th", 2, 5, 9, 10),
-        new Chord ("B Major 7th", 3, 6, 10, 11),
+    private static final String []   CHORD_NAMES        =
+    {
+        "Major",
+        "Minor",
+        "Diminished",
+        "Augmented",
+        "Major 7th",
+        "Minor 7th",
+        "Dominant 7th",
+        "Sus2",
+        "Sus4",
+        "Major Add6",
+        "Minor Add6",
+        "Major Add9",
+        "Minor Add9",
+        "Major Add11",
+        "Minor Add11"
+    };
 
-        new Chord ("C Minor 7th", 0, 3, 7, 10),
-        new Chord ("C# Minor 7th", 1, 4, 8, 11),
-        new Chord ("D Minor 7th", 0, 2, 5, 9),
-        new Chord ("D# Minor 7th", 1, 3, 6, 10),
-        new Chord ("E Minor 7th", 2, 4, 7, 11),
-        new Chord ("F Minor 7th", 0, 3, 5, 8),
-        new Chord ("F# Minor 7th", 1, 4, 6, 9),
-        new Chord ("G Minor 7th", 2, 5, 7, 10),
-        new Chord ("G# Minor 7th", 3, 6, 8, 11),
-        new Chord ("A Minor 7th", 0, 4, 7, 9),
-        new Chord ("A# Minor 7th", 1, 5, 8, 10),
-        new Chord ("B Minor 7th", 2, 6, 9, 11),
+    // @formatter:off
+    private static final int [][]    CHORD_INTERVALS    =
+    {
+        { 0, 4, 7 },        // Major
+        { 0, 3, 7 },        // Minor
+        { 0, 3, 6 },        // Diminished
+        { 0, 4, 8 },        // Augmented
+        { 0, 4, 7, 11 },    // Major 7th
+        { 0, 3, 7, 10 },    // Minor 7th
+        { 0, 4, 7, 10 },    // Dominant 7th
+        { 0, 2, 7 },        // Sus2
+        { 0, 5, 7 },        // Sus4
+        { 0, 4, 7, 9 },     // Major Add6
+        { 0, 3, 7, 9 },     // Minor Add6
+        { 0, 2, 4, 7 },     // Major Add9
+        { 0, 2, 3, 7 },     // Minor Add9
+        { 0, 4, 5, 7 },     // Major Add11
+        { 0, 3, 5, 7 }      // Minor Add11
+    };
+    // @formatter:on
 
-        new Chord ("C Dominant 7th", 0, 4, 7, 10),
-        new Chord ("C# Dominant 7th", 1, 5, 8, 11),
-        new Chord ("D Dominant 7th", 0, 2, 6, 9),
-        new Chord ("D# Dominant 7th", 1, 3, 7, 10),
-        new Chord ("E Dominant 7th", 2, 4, 8, 11),
-        new Chord ("F Dominant 7th", 0, 3, 5, 9),
-        new Chord ("F# Dominant 7th", 1, 4, 6, 10),
-        new Chord ("G Dominant 7th", 2, 5, 7, 11),
-        new Chord ("G# Dominant 7th", 0, 3, 6, 8),
-        new Chord ("A Dominant 7th", 1, 4, 7, 9),
-        new Chord ("A# Dominant 7th", 2, 5, 8, 10),
-        new Chord ("B Dominant 7th", 3, 6, 9, 11),
+    /** The name of the chord (or the notes) for each pitch class mask. */
+    private static final String []   NAMES              = new String [NUM_MASKS];
+    /** The root pitch class of the chord for each pitch class mask, -1 if it is not a chord. */
+    private static final byte []     ROOTS              = new byte [NUM_MASKS];
+    /** Lazily filled cache for the slash chord names, indexed by mask and bass pitch class. */
+    private static final String [][] SLASH_NAMES        = new String [NUM_MASKS][];
 
-        new Chord ("C Sus2", 0, 2, 7),
-        new Chord ("C# Sus2", 1, 3, 8),
-        new Chord ("D Sus2", 2, 4, 9),
-        new Chord ("D# Sus2", 3, 5, 10),
-        new Chord ("E Sus2", 4, 6, 11),
-        new Chord ("F Sus2", 0, 5, 7),
-        new Chord ("F# Sus2", 1, 6, 8),
-        new Chord ("G Sus2", 2, 7, 9),
-        new Chord ("G# Sus2", 3, 8, 10),
-        new Chord ("A Sus2", 4, 9, 11),
-        new Chord ("A# Sus2", 0, 5, 10),
-        new Chord ("B Sus2", 1, 6, 11),
+    static
+    {
+        final int [] chordMasks = new int [CHORD_NAMES.length * 12];
+        final String [] chordNames = new String [chordMasks.length];
+        final byte [] chordRoots = new byte [chordMasks.length];
 
-        new Chord ("C Sus4", 0, 5, 7),
-        new Chord ("C# Sus4", 1, 6, 8),
-        new Chord ("D Sus4", 2, 7, 9),
-        new Chord ("D# Sus4", 3, 8, 10),
-        new Chord ("E Sus4", 4, 9, 11),
-        new Chord ("F Sus4", 0, 5, 10),
-        new Chord ("F# Sus4", 1, 6, 11),
-        new Chord ("G Sus4", 0, 2, 7),
-        new Chord ("G# Sus4", 1, 3, 8),
-        new Chord ("A Sus4", 2, 4, 9),
-        new Chord ("A# Sus4", 3, 5, 10),
-        new Chord ("B Sus4", 4, 6, 11),
+        // 1st pass: all chords in all keys, if several chords have the same notes the first one wins
+        int index = 0;
+        for (int type = 0; type < CHORD_NAMES.length; type++)
+        {
+            for (int root = 0; root < 12; root++)
+            {
+                int mask = 0;
+                for (final int interval: CHORD_INTERVALS[type])
+                    mask |= 1 << (root + interval) % 12;
+
+                chordMasks[index] = mask;
+                chordNames[index] = ROOT_NAMES[root] + " " + CHORD_NAMES[type];
+                chordRoots[index] = (byte) root;
+                index++;
+
+                if (NAMES[mask] == null)
+                {
+                    NAMES[mask] = chordNames[index - 1];
+                    ROOTS[mask] = (byte) root;
+                }
+            }
+        }
 
-        new Chord ("C Major Add6", 0, 4, 7, 9),
-        new Chord ("C# Major Add6", 1, 5, 8, 10),
-        new Chord ("D Major Add6", 2, 6, 9, 11),
-        new Chord ("D# Major Add6", 0, 3, 7, 10),
-        new Chord ("E Major Add6", 1, 4, 8, 11),
-        new Chord ("F Major Add6", 0, 2, 5, 9),
-        new Chord ("F# Major Add6", 1, 3, 6, 10),
-        new Chord ("G Major Add6", 2, 4, 7, 11),
-        new Chord ("G# Major Add6", 0, 3, 5, 8),
-        new Chord ("A Major Add6", 1, 4, 6, 9),
-        new Chord ("A# Major Add6", 2, 5, 7, 10),
-        new Chord ("B Major Add6", 3, 6, 8, 11),
+        // 2nd pass: all other masks use the largest chord which is contained in the mask or the
+        // list of the note names if there is none
+        for (int mask = 0; mask < NUM_MASKS; mask++)
+        {
+            if (NAMES[mask] != null)
+                continue;
 
-        new Chord ("C Minor Add6", 0, 3, 7, 9),
-        new Chord ("C# Minor Add6", 1, 4, 8, 10),
-        new Chord ("D Minor Add6", 2, 5, 9, 11),
-        new Chord ("D# Minor Add6", 0, 3, 6, 10),
-        new Chord ("E Minor Add6", 1, 4, 7, 11),
-        new Chord ("F Minor Add6", 0, 2, 5, 8),
-        new Chord ("F# Minor Add6", 1, 3, 6, 9),
-        new Chord ("G Minor Add6", 2, 4, 7, 10),
-        new Chord ("G# Minor Add6", 3, 5, 8, 11),
-        new Chord ("A Minor Add6", 0, 4, 6, 9),
-        new Chord ("A# Minor Add6", 1, 5, 7, 10),
-        new Chord ("B Minor Add6", 2, 6, 8, 11),
+            ROOTS[mask] = -1;
+            final int count = Integer.bitCount (mask);
+            if (count == 0)
+                continue;
 
-        new Chord ("C Major Add9", 0, 2, 4, 7),
-        new Chord ("C# Major Add9", 1, 3, 5, 8),
-        new Chord ("D Major Add9", 2, 4, 6, 9),
-        new Chord ("D# Major Add9", 3, 5, 7, 10),
-        new Chord ("E Major Add9", 4, 6, 8, 11),
-        new Chord ("F Major Add9", 0, 5, 7, 9),
-        new Chord ("F# Major Add9", 1, 6, 8, 10),
-        new Chord ("G Major Add9", 2, 7, 9, 11),
-        new Chord ("G# Major Add9", 0, 3, 8, 10),
-        new Chord ("A Major Add9", 1, 4, 9, 11),
-        new Chord ("A# Major Add9", 0, 2, 5, 10),
-        new Chord ("B Major Add9", 1, 3, 6, 11),
+            int best = -1;
+            if (count >= 4)
+            {
+                for (int i = 0; i < chordMasks.length; i++)
+                {
+                    final int chordMask = chordMasks[i];
+                    if ((mask & chordMask) == chordMask && count - Integer.bitCount (chordMask) <= MAX_ADDED_NOTES && (best < 0 || Integer.bitCount (chordMask) > Integer.bitCount (chordMasks[best])))
+                        best = i;
+                }
+            }
 
-        new Chord ("C Minor Add9", 0, 2, 3, 7),
-        new Chord ("C# Minor Add9", 1, 3, 4, 8),
-        new Chord ("D Minor Add9", 2, 4, 5, 9),
-        new Chord ("D# Minor Add9", 3, 5, 6, 10),
-        new Chord ("E Minor Add9", 4, 6, 7, 11),
-        new Chord ("F Minor Add9", 0, 5, 7, 8),
-        new Chord ("F# Minor Add9", 1, 6, 8, 9),
-        new Chord ("G Minor Add9", 2, 7, 9, 10),
-        new Chord ("G# Minor Add9", 3, 8, 10, 11),
-        new Chord ("A Minor Add9", 0, 4, 9, 11),
-        new Chord ("A# Minor Add9", 0, 1, 5, 10),
-        new Chord ("B Minor Add9", 1, 2, 6, 11),
+            if (best < 0)
+                NAMES[mask] = formatNotes (mask);
+            else
+            {
+                NAMES[mask] = chordNames[best] + " (+" + formatNotes (mask & ~chordMasks[best]) + ")";
+                ROOTS[mask] = chordRoots[best];
+            }
+        }
+    }
 
-        new Chord ("C Major Add11", 0, 4, 5, 7),
-        new Chord ("C# Major Add11", 1, 5, 6, 8),
-        new Chord ("D Major Add11", 2, 6, 7, 9),
-        new Chord ("D# Major Add11", 3, 7, 8, 10),
-        new Chord ("E Major Add11", 4, 8, 9, 11),
-        new Chord ("F Major Add11", 0, 5, 9, 10),
-        new Chord ("F# Major Add11", 1, 6, 10, 11),
-        new Chord ("G Major Add11", 0, 2, 7, 11),
-        new Chord ("G# Major Add11", 0, 1, 3, 8),
-        new Chord ("A Major Add11", 1, 2, 4, 9),
-        new Chord ("A# Major Add11", 2, 3, 5, 10),
-        new Chord ("B Major Add11", 3, 4, 6, 11),
 
-        new Chord ("C Minor Add11", 0, 3, 5, 7),
-        new Chord ("C# Minor Add11", 1, 4, 6, 8),
-        new Chord ("D Minor Add11", 2, 5, 7, 9),
-        new Chord ("D# Minor Add11", 3, 6, 8, 10),
-        new Chord ("E Minor Add11", 4, 7, 9, 11),
-        new Chord ("F Minor Add11", 0, 5, 8, 10),
-        new Chord ("F# Minor Add11", 1, 6, 9, 11),
-        new Chord ("G Minor Add11", 0, 2, 7, 10),
-        new Chord ("G# Minor Add11", 1, 3, 8, 11),
-        new Chord ("A Minor Add11", 0, 2, 4, 9),
-        new Chord ("A# Minor Add11", 1, 3, 5, 10),
-        new Chord ("B Minor Add11", 2, 4, 6, 11)
-    };
+    /**
+     * Constructor. Private since this is a helper class.
+     */
+    private ChordIdentifier ()
+    {
+        // Intentionally empty
+    }
 
 
     /**
      * Returns the name of the chord for the given notes.
      *
-     * @param notes The notes for which to identify the chord
-     * @return The name of the chord or null if the notes contains less than 3 notes or is not
-     *         known.
+     * @param notes The notes for which to identify the chord, negative values are ignored
+     * @return The name of the chord, the names of the notes if it is not a known chord or null if
+     *         there are no notes
      */
     public static String identifyChord (final List<Integer> notes)
     {
-        // Reduce notes to their pitch classes (0-11)
-        final int [] pitchClasses = notes.stream ().map (note -> Integer.valueOf (note.intValue () % 12)).distinct ().sorted ().mapToInt (Integer::intValue).filter (num -> num != -1).toArray ();
-        if (pitchClasses.length >= 3 || pitchClasses.length <= 4)
-        {
-            for (final Chord chord: CHORDS)
-            {
-                if (chord.doesMatch (pitchClasses))
-                    return chord.name;
-            }
-        }
-
-        if (pitchClasses.length == 0)
-            return null;
-
-        final StringBuilder sb = new StringBuilder ();
-        for (final int pitchClass: pitchClasses)
+        int mask = 0;
+        int lowestNote = -1;
+        for (final Integer n: notes)
         {
-            if (sb.length () > 0)
-                sb.append (", ");
-            sb.append (Scales.NOTE_NAMES.get (pitchClass));
+            final int note = n.intValue ();
+            if (note < 0)
+                continue;
+            mask |= 1 << note % 12;
+            if (lowestNote < 0 || note < lowestNote)
+                lowestNote = note;
         }
-        return sb.toString ();
+        return identifyChord (mask, lowestNote < 0 ? -1 : lowestNote % 12);
     }
 
 
-    private static class Chord
+    /**
+     * Returns the name of the chord for the given pitch class set. Does not allocate any memory
+     * beyond a one-time cache of the slash chord names.
+     *
+     * @param pitchClassMask The pitch classes (0-11) of the notes encoded as a bit mask, bit 0 is C
+     * @param bassPitchClass The pitch class (0-11) of the lowest note, which creates a slash chord
+     *            if it is not the root of the chord, -1 to ignore
+     * @return The name of the chord, the names of the notes if it is not a known chord or null if
+     *         the mask is empty
+     */
+    public static String identifyChord (final int pitchClassMask, final int bassPitchClass)
     {
-        private final String name;
-        private final int [] notes;
-
-
-        Chord (final String name, final int note1, final int note2, final int note3)
+        final int mask = pitchClassMask & NUM_MASKS - 1;
+        final String name = NAMES[mask];
+        final int root = ROOTS[mask];
+        if (root < 0 || bassPitchClass < 0 || bassPitchClass == root || (mask & 1 << bassPitchClass) == 0)
+            return name;
+
+        String [] slashNames = SLASH_NAMES[mask];
+        if (slashNames == null)
         {
-            this.name = name;
-            this.notes = new int []
-            {
-                note1,
-                note2,
-                note3
-            };
+            slashNames = new String [12];
+            SLASH_NAMES[mask] = slashNames;
         }
-
-
-        Chord (final String name, final int note1, final int note2, final int note3, final int note4)
+        String slashName = slashNames[bassPitchClass];
+        if (slashName == null)
         {
-            this.name = name;
-            this.notes = new int []
-            {
-                note1,
-                note2,
-                note3,
-                note4
-            };
+            slashName = name + "/" + ROOT_NAMES[bassPitchClass];
+            slashNames[bassPitchClass] = slashName;
         }
+        return slashName;
+    }
 
 
-        public boolean doesMatch (final int [] pitchClasses)
+    /**
+     * Get the pitch class mask for the given MIDI note.
+     *
+     * @param note The MIDI note, negative values are ignored
+     * @return The mask with the bit of the pitch class of the note set
+     */
+    public static int toPitchClassMask (final int note)
+    {
+        return note < 0 ? 0 : 1 << note % 12;
+    }
+
+
+    private static String formatNotes (final int mask)
+    {
+        final StringBuilder sb = new StringBuilder ();
+        for (int pitchClass = 0; pitchClass < 12; pitchClass++)
         {
-            return pitchClasses.length == this.notes.length && Arrays.compare (this.notes, pitchClasses) == 0;
+            if ((mask & 1 << pitchClass) == 0)
+                continue;
+            if (sb.length () > 0)
+                sb.append (", ");
+            sb.append (Scales.NOTE_NAMES.get (pitchClass));
         }
+        return sb.toString ();
     }
 }
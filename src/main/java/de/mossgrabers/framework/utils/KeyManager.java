@@ -5,9 +5,9 @@
 package de.mossgrabers.framework.utils;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.IntConsumer;
 
 import de.mossgrabers.framework.controller.grid.IPadGrid;
 import de.mossgrabers.framework.daw.IModel;
@@ -22,17 +22,31 @@ import de.mossgrabers.framework.scale.Scales;
  * used instead on the grid (normally this starts with MIDI note 36, e.g. an 8x8 grid uses [36..99]
  * to make coding independent from the hardware and 3) the note which is active according to the
  * active note map (e.g. different scale layouts). This class uses notes as input from 2) to store
- * pressed states for 3).
+ * pressed states for 3).<br>
+ * The pressed keys are stored as a bit set of 2 longs (for the 128 keys) to allow allocation free
+ * queries and iterations.
  *
  * @author Jürgen Moßgraber
  */
 public class KeyManager implements INoteObserver
 {
-    private final int []   pressedKeys = new int [128];
-    private final IModel   model;
-    private final Scales   scales;
-    private final IPadGrid padGrid;
-    private int []         noteMap     = Scales.getEmptyMatrix ();
+    private static final int NUM_KEYS        = 128;
+
+    private final IModel     model;
+    private final Scales     scales;
+    private final IPadGrid   padGrid;
+    private int []           noteMap         = Scales.getEmptyMatrix ();
+
+    /** The bits of the pressed keys 0-63. */
+    private long             pressedLow;
+    /** The bits of the pressed keys 64-127. */
+    private long             pressedHigh;
+    private int              pressedCount;
+
+    /** The bits of all keys 0-63 which are mapped to a note by the note map, indexed by note. */
+    private final long []    reverseNoteLow  = new long [NUM_KEYS];
+    /** The bits of all keys 64-127 which are mapped to a note by the note map, indexed by note. */
+    private final long []    reverseNoteHigh = new long [NUM_KEYS];
 
 
     /**
@@ -47,7 +61,7 @@ public class KeyManager implements INoteObserver
         this.model = model;
         this.scales = scales;
         this.padGrid = padGrid;
-        Arrays.fill (this.pressedKeys, 0);
+        this.updateReverseNoteMap ();
     }
 
 
@@ -56,7 +70,9 @@ public class KeyManager implements INoteObserver
      */
     public void clearPressedKeys ()
     {
-        Arrays.fill (this.pressedKeys, 0);
+        this.pressedLow = 0;
+        this.pressedHigh = 0;
+        this.pressedCount = 0;
     }
 
 
@@ -68,7 +84,9 @@ public class KeyManager implements INoteObserver
      */
     public boolean isKeyPressed (final int key)
     {
-        return this.pressedKeys[key] > 0;
+        if (key < 64)
+            return (this.pressedLow & 1L << key) != 0;
+        return (this.pressedHigh & 1L << key - 64) != 0;
     }
 
 
@@ -76,27 +94,34 @@ public class KeyManager implements INoteObserver
      * Set a pressed key.
      *
      * @param key The key to set (this is a MIDI note)
-     * @param velocity The velocity
+     * @param velocity The velocity, 0 to release the key
      */
     public void setKeyPressed (final int key, final int velocity)
     {
-        this.pressedKeys[key] = velocity;
+        final boolean isPressed = velocity > 0;
+        if (key < 64)
+            this.pressedLow = setBit (this.pressedLow, 1L << key, isPressed);
+        else
+            this.pressedHigh = setBit (this.pressedHigh, 1L << key - 64, isPressed);
+        this.updatePressedCount ();
     }
 
 
     /**
-     * Loop over all pads since the note can be present multiple time.
+     * Sets all pads which are mapped to the given note by the current note map since the note can
+     * be present multiple time.
      *
      * @param key The key to set (this is a MIDI note)
-     * @param velocity The velocity
+     * @param velocity The velocity, 0 to release the key
      */
     public void setAllKeysPressed (final int key, final int velocity)
     {
-        for (int i = 0; i < 128; i++)
-        {
-            if (this.noteMap[i] == key)
-                this.setKeyPressed (i, velocity);
-        }
+        if (key < 0 || key >= NUM_KEYS)
+            return;
+        final boolean isPressed = velocity > 0;
+        this.pressedLow = setBit (this.pressedLow, this.reverseNoteLow[key], isPressed);
+        this.pressedHigh = setBit (this.pressedHigh, this.reverseNoteHigh[key], isPressed);
+        this.updatePressedCount ();
     }
 
 
@@ -111,19 +136,52 @@ public class KeyManager implements INoteObserver
 
 
     /**
-     * Get the currently pressed keys.
+     * Get the currently pressed keys. Prefer the allocation free methods
+     * {@link #forEachPressed(IntConsumer)} and {@link #getPressedKeys(int[])}.
      *
      * @return The list with the keys
      */
     public List<Integer> getPressedKeys ()
     {
-        final List<Integer> keys = new ArrayList<> ();
-        for (int i = 0; i < 128; i++)
+        final List<Integer> keys = new ArrayList<> (this.pressedCount);
+        this.forEachPressed (key -> keys.add (Integer.valueOf (key)));
+        return keys;
+    }
+
+
+    /**
+     * Fills the given array with the currently pressed keys in ascending order.
+     *
+     * @param keys The array to fill, should have a size of 128 to be able to store all keys, if it
+     *            is smaller only the lowest keys are stored
+     * @return The number of keys stored in the array
+     */
+    public int getPressedKeys (final int [] keys)
+    {
+        return fill (this.pressedLow, this.pressedHigh, keys, null);
+    }
+
+
+    /**
+     * Calls the given consumer for each currently pressed key in ascending order.
+     *
+     * @param consumer The consumer which receives the key
+     */
+    public void forEachPressed (final IntConsumer consumer)
+    {
+        // Iterate copies, the consumer might change the pressed keys
+        long low = this.pressedLow;
+        while (low != 0)
         {
-            if (this.pressedKeys[i] != 0)
-                keys.add (Integer.valueOf (i));
+            consumer.accept (Long.numberOfTrailingZeros (low));
+            low &= low - 1;
+        }
+        long high = this.pressedHigh;
+        while (high != 0)
+        {
+            consumer.accept (64 + Long.numberOfTrailingZeros (high));
+            high &= high - 1;
         }
-        return keys;
     }
 
 
@@ -134,12 +192,18 @@ public class KeyManager implements INoteObserver
      */
     public boolean hasPressedKeys ()
     {
-        for (int i = 0; i < 128; i++)
-        {
-            if (this.pressedKeys[i] != 0)
-                return true;
-        }
-        return false;
+        return this.pressedCount > 0;
+    }
+
+
+    /**
+     * Get the number of currently pressed keys.
+     *
+     * @return The number of pressed keys
+     */
+    public int getPressedKeyCount ()
+    {
+        return this.pressedCount;
     }
 
 
@@ -156,21 +220,82 @@ public class KeyManager implements INoteObserver
 
 
     /**
-     * Get the MIDI notes from the grid for all currently pressed keys.
+     * Get the MIDI notes from the grid for all currently pressed keys. Prefer the allocation free
+     * method {@link #getMidiNotesFromPressedKeys(int[])}.
      *
      * @return The translated notes depending on applied scales, etc.
      */
     public List<Integer> getMidiNotesFromPressedKeys ()
     {
-        final List<Integer> pressed = this.getPressedKeys ();
-        final int size = pressed.size ();
-        final List<Integer> notes = new ArrayList<> (size);
-        for (int i = 0; i < size; i++)
-            notes.add (Integer.valueOf (this.map (pressed.get (i).intValue ())));
+        final List<Integer> notes = new ArrayList<> (this.pressedCount);
+        this.forEachPressed (key -> notes.add (Integer.valueOf (this.map (key))));
         return notes;
     }
 
 
+    /**
+     * Fills the given array with the mapped MIDI notes of all currently pressed keys.
+     *
+     * @param notes The array to fill, should have a size of 128 to be able to store all notes, if
+     *            it is smaller only the notes of the lowest keys are stored
+     * @return The number of notes stored in the array
+     */
+    public int getMidiNotesFromPressedKeys (final int [] notes)
+    {
+        return fill (this.pressedLow, this.pressedHigh, notes, this.noteMap);
+    }
+
+
+    /**
+     * Get the pitch classes of the mapped MIDI notes of all currently pressed keys.
+     *
+     * @return The pitch classes (0-11) encoded as a bit mask, bit 0 is C
+     */
+    public int getPressedPitchClassMask ()
+    {
+        int mask = 0;
+        long bits = this.pressedLow;
+        int offset = 0;
+        for (int i = 0; i < 2; i++)
+        {
+            while (bits != 0)
+            {
+                mask |= ChordIdentifier.toPitchClassMask (this.noteMap[offset + Long.numberOfTrailingZeros (bits)]);
+                bits &= bits - 1;
+            }
+            bits = this.pressedHigh;
+            offset = 64;
+        }
+        return mask;
+    }
+
+
+    /**
+     * Get the lowest mapped MIDI note of all currently pressed keys.
+     *
+     * @return The lowest MIDI note or -1 if no (mapped) key is pressed
+     */
+    public int getLowestPressedMidiNote ()
+    {
+        int lowest = -1;
+        long bits = this.pressedLow;
+        int offset = 0;
+        for (int i = 0; i < 2; i++)
+        {
+            while (bits != 0)
+            {
+                final int note = this.noteMap[offset + Long.numberOfTrailingZeros (bits)];
+                if (note >= 0 && (lowest < 0 || note < lowest))
+                    lowest = note;
+                bits &= bits - 1;
+            }
+            bits = this.pressedHigh;
+            offset = 64;
+        }
+        return lowest;
+    }
+
+
     /**
      * Get the mapped note from the current note matrix.
      *
@@ -196,13 +321,16 @@ public class KeyManager implements INoteObserver
 
 
     /**
-     * Set a new note matrix.
+     * Set a new note matrix. The matrix must not be modified after it has been set.
      *
      * @param matrix The new matrix
      */
     public void setNoteMatrix (final int [] matrix)
     {
+        if (this.noteMap == matrix)
+            return;
         this.noteMap = matrix;
+        this.updateReverseNoteMap ();
     }
 
 
@@ -215,4 +343,62 @@ public class KeyManager implements INoteObserver
     {
         return this.scales;
     }
+
+
+    /**
+     * Rebuild the bit sets of all keys which are mapped to a note.
+     */
+    private void updateReverseNoteMap ()
+    {
+        for (int note = 0; note < NUM_KEYS; note++)
+        {
+            this.reverseNoteLow[note] = 0;
+            this.reverseNoteHigh[note] = 0;
+        }
+
+        final int length = Math.min (NUM_KEYS, this.noteMap.length);
+        for (int key = 0; key < length; key++)
+        {
+            final int note = this.noteMap[key];
+            if (note < 0 || note >= NUM_KEYS)
+                continue;
+            if (key < 64)
+                this.reverseNoteLow[note] |= 1L << key;
+            else
+                this.reverseNoteHigh[note] |= 1L << key - 64;
+        }
+    }
+
+
+    private void updatePressedCount ()
+    {
+        this.pressedCount = Long.bitCount (this.pressedLow) + Long.bitCount (this.pressedHigh);
+    }
+
+
+    private static long setBit (final long bits, final long mask, final boolean set)
+    {
+        return set ? bits | mask : bits & ~mask;
+    }
+
+
+    private static int fill (final long low, final long high, final int [] values, final int [] map)
+    {
+        int count = 0;
+        long bits = low;
+        int offset = 0;
+        for (int i = 0; i < 2; i++)
+        {
+            while (bits != 0 && count < values.length)
+            {
+                final int key = offset + Long.numberOfTrailingZeros (bits);
+                values[count] = map == null ? key : map[key];
+                count++;
+                bits &= bits - 1;
+            }
+            bits = high;
+            offset = 64;
+        }
+        return count;
+    }
 }
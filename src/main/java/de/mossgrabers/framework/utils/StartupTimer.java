@@ -0,0 +1,175 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2026
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * Measures the duration and the allocated memory of the phases of the initialization of a
+ * controller setup.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class StartupTimer
+{
+    /**
+     * The measured values of one phase.
+     *
+     * @param name The name of the phase
+     * @param nanos The duration in nanoseconds
+     * @param allocatedBytes The number of bytes allocated by the thread during the phase, -1 if not
+     *            supported by the JVM
+     */
+    public record Phase (String name, long nanos, long allocatedBytes)
+    {
+        // Intentionally empty
+    }
+
+
+    private static boolean    isAllocationCounterAvailable = true;
+
+    private final List<Phase> phases                       = new ArrayList<> ();
+
+
+    /**
+     * Execute and measure a phase.
+     *
+     * @param name The name of the phase
+     * @param phase The code to execute
+     */
+    public void measure (final String name, final Runnable phase)
+    {
+        final long allocated = getAllocatedBytes ();
+        final long start = System.nanoTime ();
+
+        phase.run ();
+
+        final long nanos = System.nanoTime () - start;
+        final long allocatedBytes = allocated < 0 ? -1 : getAllocatedBytes () - allocated;
+        this.phases.add (new Phase (name, nanos, allocatedBytes));
+    }
+
+
+    /**
+     * Get all measured phases in the order of their execution.
+     *
+     * @return The phases
+     */
+    public List<Phase> getPhases ()
+    {
+        return Collections.unmodifiableList (this.phases);
+    }
+
+
+    /**
+     * Get the sum of the durations of all phases.
+     *
+     * @return The total duration in nanoseconds
+     */
+    public long getTotalNanos ()
+    {
+        long total = 0;
+        for (final Phase phase: this.phases)
+            total += phase.nanos ();
+        return total;
+    }
+
+
+    /**
+     * Get the sum of the allocated memory of all phases.
+     *
+     * @return The total number of allocated bytes, -1 if not supported by the JVM
+     */
+    public long getTotalAllocatedBytes ()
+    {
+        long total = 0;
+        for (final Phase phase: this.phases)
+        {
+            if (phase.allocatedBytes () < 0)
+                return -1;
+            total += phase.allocatedBytes ();
+        }
+        return total;
+    }
+
+
+    /**
+     * Format the durations of all phases in milliseconds into one line.
+     *
+     * @param title The title of the report
+     * @return The report
+     */
+    public String createReport (final String title)
+    {
+        final StringBuilder sb = new StringBuilder (title).append (": ").append (toMillis (this.getTotalNanos ())).append (" ms");
+        final long allocatedBytes = this.getTotalAllocatedBytes ();
+        if (allocatedBytes >= 0)
+            sb.append (", ").append (allocatedBytes / 1024).append (" KB");
+        sb.append (" (");
+        for (int i = 0; i < this.phases.size (); i++)
+        {
+            final Phase phase = this.phases.get (i);
+            if (i > 0)
+                sb.append (", ");
+            sb.append (phase.name ()).append (' ').append (toMillis (phase.nanos ()));
+        }
+        return sb.append (')').toString ();
+    }
+
+
+    private static long getAllocatedBytes ()
+    {
+        if (!isAllocationCounterAvailable)
+            return -1;
+
+        try
+        {
+            return AllocationCounter.getAllocatedBytes ();
+        }
+        catch (final LinkageError error)
+        {
+            // The JVM does not provide the com.sun.management extension
+            isAllocationCounterAvailable = false;
+            return -1;
+        }
+    }
+
+
+    private static String toMillis (final long nanos)
+    {
+        return String.format ("%.1f", Double.valueOf (nanos / 1000000.0));
+    }
+
+
+    /**
+     * Looks up the counter of the memory allocated by the current thread when it is used for the
+     * first time. The counter is only provided by JVMs which contain the com.sun.management
+     * extension.
+     */
+    private static final class AllocationCounter
+    {
+        private static final com.sun.management.ThreadMXBean THREAD_BEAN = lookup ();
+
+
+        private static com.sun.management.ThreadMXBean lookup ()
+        {
+            final ThreadMXBean bean = ManagementFactory.getThreadMXBean ();
+            if (bean instanceof final com.sun.management.ThreadMXBean extendedBean && extendedBean.isThreadAllocatedMemorySupported ())
+                return extendedBean;
+            return null;
+        }
+
+
+        static long getAllocatedBytes ()
+        {
+            return THREAD_BEAN == null ? -1 : THREAD_BEAN.getCurrentThreadAllocatedBytes ();
+        }
+    }
+}
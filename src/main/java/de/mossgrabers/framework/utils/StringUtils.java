@@ -7,7 +7,9 @@ package de.mossgrabers.framework.utils;
 import java.nio.ByteBuffer;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
+import java.util.LinkedHashMap;
 import java.util.Locale;
+import java.util.Map;
 
 import de.mossgrabers.framework.controller.color.ColorEx;
 
@@ -19,7 +21,7 @@ import de.mossgrabers.framework.controller.color.ColorEx;
  */
 public class StringUtils
 {
-    private static final char [] REMOVABLE_CHARS =
+    private static final char []               REMOVABLE_CHARS  =
     {
         ' ',
         'e',
@@ -29,6 +31,38 @@ public class StringUtils
         'o'
     };
 
+    private static final int                   LABEL_CACHE_SIZE = 512;
+
+    /**
+     * Displays request the same shortened names on every flush, therefore the results are cached.
+     * Since the key contains the source text no invalidation is necessary.
+     */
+    private static final Map<LabelKey, String> LABEL_CACHE      = new LinkedHashMap<> (LABEL_CACHE_SIZE, 0.75f, true)
+    {
+        private static final long serialVersionUID = 1L;
+
+
+        /** {@inheritDoc} */
+        @Override
+        protected boolean removeEldestEntry (final Map.Entry<LabelKey, String> eldest)
+        {
+            return this.size () > LABEL_CACHE_SIZE;
+        }
+    };
+
+
+    /**
+     * The key for the label cache.
+     *
+     * @param text The source text
+     * @param length The length to shorten to
+     * @param fixASCII True if non-ASCII characters are replaced
+     */
+    private record LabelKey (String text, int length, boolean fixASCII)
+    {
+        // Intentionally empty
+    }
+
 
     /**
      * Constructor, private due to help class.
@@ -84,7 +118,11 @@ public class StringUtils
      */
     public static String shortenAndFixASCII (final String text, final int length)
     {
-        return optimizeName (fixASCII (text), length);
+        if (text == null)
+            return "";
+        if (text.length () <= length && isASCII (text))
+            return text;
+        return getCachedLabel (new LabelKey (text, length, true));
     }
 
 
@@ -92,12 +130,15 @@ public class StringUtils
      * Replace umlauts and other non-ASCII characters with alternative writing.
      *
      * @param text The string to check
-     * @return The string with replaced characters, might be longer than the original!
+     * @return The string with replaced characters, might be longer than the original! The string
+     *         itself if it contains only ASCII characters
      */
     public static String fixASCII (final String text)
     {
         if (text == null)
             return "";
+        if (isASCII (text))
+            return text;
         final StringBuilder str = new StringBuilder ();
         for (int i = 0; i < text.length (); i++)
         {
@@ -226,7 +267,33 @@ public class StringUtils
     {
         if (text == null)
             return "";
+        if (text.length () <= length)
+            return text;
+        return getCachedLabel (new LabelKey (text, length, false));
+    }
+
+
+    private static String getCachedLabel (final LabelKey key)
+    {
+        synchronized (LABEL_CACHE)
+        {
+            final String label = LABEL_CACHE.get (key);
+            if (label != null)
+                return label;
+        }
+
+        final String text = key.fixASCII () ? fixASCII (key.text ()) : key.text ();
+        final String label = shorten (text, key.length ());
+        synchronized (LABEL_CACHE)
+        {
+            LABEL_CACHE.put (key, label);
+        }
+        return label;
+    }
+
 
+    private static String shorten (final String text, final int length)
+    {
         String shortened = text;
         for (final char element: REMOVABLE_CHARS)
         {
@@ -244,6 +311,23 @@ public class StringUtils
     }
 
 
+    /**
+     * Test if the text contains only ASCII characters.
+     *
+     * @param text The text to test
+     * @return True if all characters are in the range of 0-127
+     */
+    public static boolean isASCII (final String text)
+    {
+        for (int i = 0; i < text.length (); i++)
+        {
+            if (text.charAt (i) > 127)
+                return false;
+        }
+        return true;
+    }
+
+
     /**
      * Limits a text to the given length.
      *
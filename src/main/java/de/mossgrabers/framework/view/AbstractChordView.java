@@ -4,9 +4,6 @@
 
 package de.mossgrabers.framework.view;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.daw.IModel;
@@ -50,7 +47,9 @@ public class AbstractChordView<S extends IControlSurface<C>, C extends Configura
     };
     // @formatter:on
 
-    private final List<Integer>    currentChord    = new ArrayList<> ();
+    private final Object           chordLock        = new Object ();
+    private int                    currentChordMask;
+    private int                    currentChordBass = -1;
 
 
     /**
@@ -100,14 +99,17 @@ public class AbstractChordView<S extends IControlSurface<C>, C extends Configura
         for (final int element: chord)
             input.sendRawMidiEvent (MidiConstants.CMD_NOTE_ON + channel, element, vel);
 
-        synchronized (this.currentChord)
+        synchronized (this.chordLock)
         {
-            this.currentChord.clear ();
+            this.currentChordMask = 0;
+            this.currentChordBass = -1;
             if (velocity > 0)
             {
-                this.currentChord.add (Integer.valueOf (note));
+                this.currentChordMask = ChordIdentifier.toPitchClassMask (note);
                 for (final int element: chord)
-                    this.currentChord.add (Integer.valueOf (element));
+                    this.currentChordMask |= ChordIdentifier.toPitchClassMask (element);
+                if (note >= 0)
+                    this.currentChordBass = note % 12;
             }
         }
     }
@@ -117,9 +119,9 @@ public class AbstractChordView<S extends IControlSurface<C>, C extends Configura
     @Override
     protected String getChordName ()
     {
-        synchronized (this.currentChord)
+        synchronized (this.chordLock)
         {
-            return ChordIdentifier.identifyChord (this.currentChord);
+            return ChordIdentifier.identifyChord (this.currentChordMask, this.currentChordBass);
         }
     }
 }
@@ -245,11 +245,14 @@ public abstract class AbstractPlayView<S extends IControlSurface<C>, C extends C
 
         if (this.blockNotes > 0)
         {
+            // The matrix is shared by the scales cache
+            final int [] blockedMatrix = noteMatrix.clone ();
             final int startNote = this.scales.getStartNote ();
             final int endNote = this.scales.getEndNote ();
             final int length = endNote - startNote - this.blockNotes;
-            System.arraycopy (noteMatrix, startNote, noteMatrix, startNote + this.blockNotes, length);
-            Arrays.fill (noteMatrix, startNote, startNote + 8, -1);
+            System.arraycopy (noteMatrix, startNote, blockedMatrix, startNote + this.blockNotes, length);
+            Arrays.fill (blockedMatrix, startNote, startNote + 8, -1);
+            return blockedMatrix;
         }
 
         return noteMatrix;
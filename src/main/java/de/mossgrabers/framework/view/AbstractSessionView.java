@@ -13,6 +13,7 @@ import de.mossgrabers.framework.controller.grid.LightInfo;
 import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.clip.ISessionAlternative;
+import de.mossgrabers.framework.daw.data.IItem;
 import de.mossgrabers.framework.daw.data.ISlot;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.data.bank.ISceneBank;
@@ -23,6 +24,9 @@ import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.utils.FrameworkException;
 import de.mossgrabers.framework.utils.Pair;
 
+import java.util.IdentityHashMap;
+import java.util.Map;
+
 
 /**
  * Abstract implementation for a view which provides a session with clips.
@@ -64,6 +68,22 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
 
     private boolean            wasAlternateInteractionUsed     = false;
 
+    private final Map<ISlot, CachedPadColor> padColorCache = new IdentityHashMap<> ();
+
+
+    /**
+     * The last calculated color of a pad and the state from which it was calculated.
+     *
+     * @param stamp The modification stamp of the slot
+     * @param isArmed True if the track was armed
+     * @param isDrawRecordStripe True if the record stripe was drawn
+     * @param color The calculated color
+     */
+    private record CachedPadColor (long stamp, boolean isArmed, boolean isDrawRecordStripe, LightInfo color)
+    {
+        // Intentionally empty
+    }
+
 
     /**
      * Constructor.
@@ -405,6 +425,8 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
         this.clipColorHasNoContent = noContent;
         this.clipColorIsRecArmed = recArmed;
         this.clipColorIsMuted = isMuted;
+
+        this.padColorCache.clear ();
     }
 
 
@@ -446,13 +468,40 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
 
 
     /**
-     * Get the pad color for a slot.
+     * Get the pad color for a slot. The color is only calculated again if the modification stamp of
+     * the slot has changed since the last call. Slots which do not track their changes are always
+     * calculated.
      *
      * @param slot The slot
      * @param isArmed True if armed
      * @return The light info
      */
     public LightInfo getPadColor (final ISlot slot, final boolean isArmed)
+    {
+        final long stamp = slot.getModificationStamp ();
+        final boolean isDrawRecordStripe = this.surface.getConfiguration ().isDrawRecordStripe ();
+        if (stamp == IItem.NO_MODIFICATION_STAMP)
+            return this.calculatePadColor (slot, isArmed, isDrawRecordStripe);
+
+        final CachedPadColor cached = this.padColorCache.get (slot);
+        if (cached != null && cached.stamp () == stamp && cached.isArmed () == isArmed && cached.isDrawRecordStripe () == isDrawRecordStripe)
+            return cached.color ();
+
+        final LightInfo color = this.calculatePadColor (slot, isArmed, isDrawRecordStripe);
+        this.padColorCache.put (slot, new CachedPadColor (stamp, isArmed, isDrawRecordStripe, color));
+        return color;
+    }
+
+
+    /**
+     * Calculate the pad color for a slot.
+     *
+     * @param slot The slot
+     * @param isArmed True if armed
+     * @param isDrawRecordStripe True to draw the record stripe on empty slots of armed tracks
+     * @return The light info
+     */
+    private LightInfo calculatePadColor (final ISlot slot, final boolean isArmed, final boolean isDrawRecordStripe)
     {
         final String colorID = DAWColor.getColorID (slot.getColor ());
         final ColorManager cm = this.model.getColorManager ();
@@ -481,7 +530,7 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
             return new LightInfo (color, slot.isSelected () ? blinkColor : -1, this.clipColorHasContent.isFast ());
         }
 
-        return slot.doesExist () && isArmed && this.surface.getConfiguration ().isDrawRecordStripe () ? this.clipColorIsRecArmed : this.clipColorHasNoContent;
+        return slot.doesExist () && isArmed && isDrawRecordStripe ? this.clipColorIsRecArmed : this.clipColorHasNoContent;
     }
 
 